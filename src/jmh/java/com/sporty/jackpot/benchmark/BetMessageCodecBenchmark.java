@@ -0,0 +1,80 @@
+package com.sporty.jackpot.benchmark;
+
+import com.sporty.jackpot.infra.messaging.codec.BetMessageBinaryDeserializer;
+import com.sporty.jackpot.infra.messaging.codec.BetMessageBinarySerializer;
+import com.sporty.jackpot.infra.messaging.events.BetMessage;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+// Compares the JSON and binary BetMessage codecs, run with -prof gc to compare allocation per
+// message as well. JSON records also carry the __TypeId__ header, as they do on the real topic.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BetMessageCodecBenchmark {
+
+  private static final String TOPIC = "jackpot-bets";
+
+  private final JsonSerializer<BetMessage> jsonSerializer = new JsonSerializer<>();
+  private final JsonDeserializer<BetMessage> jsonDeserializer = new JsonDeserializer<>();
+  private final BetMessageBinarySerializer binarySerializer = new BetMessageBinarySerializer();
+  private final BetMessageBinaryDeserializer binaryDeserializer = new BetMessageBinaryDeserializer();
+
+  private BetMessage betMessage;
+  private RecordHeaders jsonHeaders;
+  private byte[] json;
+  private byte[] binary;
+
+  @Setup
+  public void setUp() {
+    // Type headers are kept so that the same record can be deserialized on every invocation
+    jsonDeserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*",
+        JsonDeserializer.REMOVE_TYPE_INFO_HEADERS, false), false);
+    betMessage = new BetMessage(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+        new BigDecimal("25.50"), LocalDateTime.now());
+    jsonHeaders = new RecordHeaders();
+    json = jsonSerializer.serialize(TOPIC, jsonHeaders, betMessage);
+    binary = binarySerializer.serialize(TOPIC, betMessage);
+    System.out.printf("%nBetMessage size: json %d bytes, binary %d bytes%n", json.length,
+        binary.length);
+  }
+
+  @Benchmark
+  public byte[] serializeJson() {
+    return jsonSerializer.serialize(TOPIC, new RecordHeaders(), betMessage);
+  }
+
+  @Benchmark
+  public byte[] serializeBinary() {
+    return binarySerializer.serialize(TOPIC, betMessage);
+  }
+
+  @Benchmark
+  public BetMessage deserializeJson() {
+    return jsonDeserializer.deserialize(TOPIC, jsonHeaders, json);
+  }
+
+  @Benchmark
+  public BetMessage deserializeBinary() {
+    return binaryDeserializer.deserialize(TOPIC, binary);
+  }
+}
@@ -0,0 +1,69 @@
+package com.sporty.jackpot.benchmark;
+
+import com.sporty.jackpot.domain.DecimalContributionEngine;
+import com.sporty.jackpot.domain.FixedPointContributionEngine;
+import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.model.JackpotRules;
+import com.sporty.jackpot.domain.model.RewardType;
+import com.sporty.jackpot.domain.policy.ContributionPolicy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ContributionPolicyBenchmark {
+
+  private final BigDecimal betAmount = new BigDecimal("25.50");
+  private final Jackpot fixedJackpot = jackpot(ContributionType.FIXED);
+  private final Jackpot variableJackpot = jackpot(ContributionType.VARIABLE);
+  private final ContributionPolicy fixedPolicy =
+      new DecimalContributionEngine().compile(fixedJackpot);
+  private final ContributionPolicy variablePolicy =
+      new DecimalContributionEngine().compile(variableJackpot);
+  private final ContributionPolicy fixedPointFixedPolicy =
+      new FixedPointContributionEngine().compile(fixedJackpot);
+  private final ContributionPolicy fixedPointVariablePolicy =
+      new FixedPointContributionEngine().compile(variableJackpot);
+
+  @Benchmark
+  public BigDecimal policyFixed() {
+    return fixedPolicy.calculate(fixedJackpot.getCurrentPool(), betAmount);
+  }
+
+  @Benchmark
+  public BigDecimal policyVariable() {
+    return variablePolicy.calculate(variableJackpot.getCurrentPool(), betAmount);
+  }
+
+  @Benchmark
+  public BigDecimal policyFixedFixedPoint() {
+    return fixedPointFixedPolicy.calculate(fixedJackpot.getCurrentPool(), betAmount);
+  }
+
+  @Benchmark
+  public BigDecimal policyVariableFixedPoint() {
+    return fixedPointVariablePolicy.calculate(variableJackpot.getCurrentPool(), betAmount);
+  }
+
+  private static Jackpot jackpot(ContributionType contributionType) {
+    return new Jackpot(UUID.randomUUID(), "Benchmark Jackpot", new BigDecimal("1000.00"),
+        new BigDecimal("2500.00"), LocalDateTime.now(), contributionType, RewardType.FIXED,
+        JackpotRules.DEFAULTS);
+  }
+}
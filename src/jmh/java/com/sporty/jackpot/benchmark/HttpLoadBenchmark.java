@@ -0,0 +1,74 @@
+package com.sporty.jackpot.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Load against a running instance, e.g. once with and once without the virtual-threads profile.
+// SampleTime reports the latency percentiles, p0.99 included, and the sample count gives the
+// throughput. Use -t to change the number of concurrent clients.
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Fork(1)
+@Threads(200)
+@State(Scope.Benchmark)
+public class HttpLoadBenchmark {
+
+  @Param("http://localhost:8080")
+  public String baseUrl;
+
+  // The seeded fixed jackpot
+  @Param("73cada80-12e4-46b7-a0cb-a5eb99d4cafa")
+  public String jackpotId;
+
+  private HttpClient client;
+  private HttpRequest getJackpot;
+  private HttpRequest getJackpots;
+
+  @Setup
+  public void setUp() {
+    client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    getJackpot = HttpRequest.newBuilder(URI.create(baseUrl + "/api/jackpots/" + jackpotId))
+        .GET().build();
+    getJackpots = HttpRequest.newBuilder(URI.create(baseUrl + "/api/jackpots")).GET().build();
+  }
+
+  @Benchmark
+  public int getJackpot() throws IOException, InterruptedException {
+    return send(getJackpot);
+  }
+
+  @Benchmark
+  public int getJackpots() throws IOException, InterruptedException {
+    return send(getJackpots);
+  }
+
+  private int send(HttpRequest request) throws IOException, InterruptedException {
+    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException(request.uri() + " answered " + response.statusCode());
+    }
+    return response.statusCode();
+  }
+}
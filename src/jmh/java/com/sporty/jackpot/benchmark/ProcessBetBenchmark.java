@@ -0,0 +1,91 @@
+package com.sporty.jackpot.benchmark;
+
+import com.sporty.jackpot.domain.BetProcessedNotifier;
+import com.sporty.jackpot.domain.DecimalContributionEngine;
+import com.sporty.jackpot.domain.FixedPointContributionEngine;
+import com.sporty.jackpot.domain.JackpotService;
+import com.sporty.jackpot.domain.RewardChecker;
+import com.sporty.jackpot.domain.RewardEvaluation;
+import com.sporty.jackpot.domain.StateBarrier;
+import com.sporty.jackpot.domain.policy.JackpotPolicyRegistry;
+import com.sporty.jackpot.domain.random.ThreadLocalRandomSource;
+import com.sporty.jackpot.infra.messaging.events.BetMessage;
+import com.sporty.jackpot.infra.persistence.BetRepositoryInMemory;
+import com.sporty.jackpot.infra.persistence.ContributionLedgerInMemoryRepository;
+import com.sporty.jackpot.infra.persistence.JackpotInMemoryRepository;
+import com.sporty.jackpot.infra.persistence.ProcessedBetInMemoryRepository;
+import com.sporty.jackpot.infra.persistence.RewardInMemoryRepository;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// JackpotService.processBet against the in-memory repositories with the default dedup and ledger
+// settings. The repositories are recreated every iteration so stored bets don't pile up.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ProcessBetBenchmark {
+
+  // The seeded fixed and variable jackpots
+  @Param({"73cada80-12e4-46b7-a0cb-a5eb99d4cafa", "38b36029-44ea-4b38-b8cf-db64200dec3d"})
+  public String jackpotId;
+
+  @Param({"decimal", "fixed-point"})
+  public String engine;
+
+  // INLINE adds the reward draw to every processed bet
+  @Param({"ON_DEMAND", "INLINE"})
+  public RewardEvaluation evaluation;
+
+  private final UUID userId = UUID.randomUUID();
+  private final BigDecimal betAmount = new BigDecimal("25.50");
+  private final LocalDateTime createdAt = LocalDateTime.now();
+
+  private JackpotService jackpotService;
+  private UUID jackpot;
+  private long betSequence;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    JackpotPolicyRegistry policyRegistry = new JackpotPolicyRegistry("fixed-point".equals(engine)
+        ? new FixedPointContributionEngine() : new DecimalContributionEngine());
+    BetRepositoryInMemory betRepository = new BetRepositoryInMemory();
+    jackpotService = new JackpotService(
+        new JackpotInMemoryRepository(),
+        betRepository,
+        new ProcessedBetInMemoryRepository(Duration.ofHours(24), 1_000_000),
+        new ContributionLedgerInMemoryRepository(1000, 10000),
+        policyRegistry,
+        new RewardInMemoryRepository(),
+        new RewardChecker(new ThreadLocalRandomSource(), policyRegistry),
+        evaluation,
+        new BetProcessedNotifier(betRepository),
+        new StateBarrier(true),
+        false);
+    jackpot = UUID.fromString(jackpotId);
+  }
+
+  @Benchmark
+  public void processBet() {
+    // Sequential ids keep UUID generation out of the measurement and never hit the dedup check
+    jackpotService.processBet(new BetMessage(new UUID(0, ++betSequence), userId, jackpot,
+        betAmount, createdAt));
+  }
+}
@@ -0,0 +1,64 @@
+package com.sporty.jackpot.benchmark;
+
+import com.sporty.jackpot.domain.DecimalContributionEngine;
+import com.sporty.jackpot.domain.RewardChecker;
+import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.model.RewardType;
+import com.sporty.jackpot.domain.policy.JackpotPolicyRegistry;
+import com.sporty.jackpot.domain.random.RandomSource;
+import com.sporty.jackpot.domain.random.SeededRandomSource;
+import com.sporty.jackpot.domain.random.SharedRandomSource;
+import com.sporty.jackpot.domain.random.SplittableRandomSource;
+import com.sporty.jackpot.domain.random.ThreadLocalRandomSource;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// One RewardChecker shared by 32 threads, as in BetService under concurrent checkReward calls.
+// Compare with -t 1 to see how much of the difference is contention on the shared seed.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class RandomSourceContentionBenchmark {
+
+  @Param({"shared", "seeded", "thread-local", "splittable"})
+  public String source;
+
+  private RewardChecker rewardChecker;
+  private Jackpot jackpot;
+
+  @Setup
+  public void setUp() {
+    RandomSource randomSource = switch (source) {
+      case "shared" -> new SharedRandomSource();
+      case "seeded" -> new SeededRandomSource(42);
+      case "splittable" -> new SplittableRandomSource();
+      default -> new ThreadLocalRandomSource();
+    };
+    rewardChecker = new RewardChecker(randomSource,
+        new JackpotPolicyRegistry(new DecimalContributionEngine()));
+    jackpot = new Jackpot("Benchmark Jackpot", new BigDecimal("1000.00"), ContributionType.FIXED,
+        RewardType.FIXED);
+  }
+
+  @Benchmark
+  public boolean evaluate() {
+    return rewardChecker.evaluate(jackpot);
+  }
+}
@@ -0,0 +1,50 @@
+package com.sporty.jackpot.benchmark;
+
+import com.sporty.jackpot.domain.RewardChecker;
+import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.model.JackpotRules;
+import com.sporty.jackpot.domain.model.RewardType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RewardCheckerBenchmark {
+
+  private final RewardChecker rewardChecker = new RewardChecker(new Random(42));
+  private final Jackpot fixedJackpot = jackpot(RewardType.FIXED);
+  private final Jackpot variableJackpot = jackpot(RewardType.VARIABLE);
+
+  @Benchmark
+  public boolean evaluateFixed() {
+    return rewardChecker.evaluate(fixedJackpot);
+  }
+
+  @Benchmark
+  public boolean evaluateVariable() {
+    return rewardChecker.evaluate(variableJackpot);
+  }
+
+  private static Jackpot jackpot(RewardType rewardType) {
+    return new Jackpot(UUID.randomUUID(), "Benchmark Jackpot", new BigDecimal("1000.00"),
+        new BigDecimal("2500.00"), LocalDateTime.now(), ContributionType.FIXED, rewardType,
+        JackpotRules.DEFAULTS);
+  }
+}
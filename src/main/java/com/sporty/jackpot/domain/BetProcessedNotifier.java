@@ -0,0 +1,60 @@
+package com.sporty.jackpot.domain;
+
+import com.sporty.jackpot.domain.model.Bet;
+import com.sporty.jackpot.domain.persistence.BetRepository;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+// Lets callers wait for a bet to be stored by the consumer without holding a thread
+@Component
+public class BetProcessedNotifier {
+
+  private final BetRepository betRepository;
+  // The sets are only read and changed inside the map's atomic operations
+  private final Map<UUID, Set<CompletableFuture<Void>>> waiters = new ConcurrentHashMap<>();
+
+  public BetProcessedNotifier(BetRepository betRepository) {
+    this.betRepository = betRepository;
+  }
+
+  // Completes once the bet is stored, right away if it already is. The waiter is registered before
+  // the store is checked, so a bet stored in between is seen by one of the two.
+  public CompletableFuture<Void> awaitProcessed(UUID betId) {
+    CompletableFuture<Void> waiter = new CompletableFuture<>();
+    waiters.compute(betId, (id, betWaiters) -> {
+      Set<CompletableFuture<Void>> updated = betWaiters != null ? betWaiters : new HashSet<>();
+      updated.add(waiter);
+      return updated;
+    });
+
+    if (betRepository.findById(betId).isPresent()) {
+      cancel(betId, waiter);
+      waiter.complete(null);
+    }
+    return waiter;
+  }
+
+  // Drops a waiter that gave up, e.g. on timeout
+  public void cancel(UUID betId, CompletableFuture<Void> waiter) {
+    waiters.computeIfPresent(betId, (id, betWaiters) -> {
+      betWaiters.remove(waiter);
+      return betWaiters.isEmpty() ? null : betWaiters;
+    });
+  }
+
+  // Called once the bets are stored
+  public void processed(Collection<Bet> bets) {
+    for (Bet bet : bets) {
+      Set<CompletableFuture<Void>> betWaiters = waiters.remove(bet.getBetId());
+      if (betWaiters != null) {
+        betWaiters.forEach(waiter -> waiter.complete(null));
+      }
+    }
+  }
+}
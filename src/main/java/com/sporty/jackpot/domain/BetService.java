@@ -2,15 +2,23 @@ package com.sporty.jackpot.domain;
 
 import com.github.dockerjava.api.exception.NotFoundException;
 import com.sporty.jackpot.domain.model.Bet;
-import com.sporty.jackpot.domain.model.Jackpot;
 import com.sporty.jackpot.domain.model.Reward;
 import com.sporty.jackpot.domain.persistence.BetRepository;
 import com.sporty.jackpot.domain.persistence.JackpotRepository;
 import com.sporty.jackpot.domain.persistence.RewardRepository;
 import com.sporty.jackpot.infra.api.model.RewardResponse;
 import java.math.BigDecimal;
-import java.util.Random;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -19,52 +27,121 @@ public class BetService {
   private final JackpotRepository jackpotRepository;
   private final BetRepository betRepository;
   private final RewardRepository rewardRepository;
-  private final RewardChecker rewardChecker = new RewardChecker(new Random());
+  private final RewardChecker rewardChecker;
+  private final RewardDecisionCache rewardDecisionCache;
+  private final BetProcessedNotifier betProcessedNotifier;
+  private final StateBarrier stateBarrier;
+  private final Executor rewardExecutor;
 
   public BetService(JackpotRepository jackpotRepository,
       BetRepository betRepository,
-      RewardRepository rewardRepository) {
+      RewardRepository rewardRepository,
+      RewardChecker rewardChecker,
+      RewardDecisionCache rewardDecisionCache,
+      BetProcessedNotifier betProcessedNotifier,
+      StateBarrier stateBarrier,
+      @Qualifier("applicationTaskExecutor") Executor rewardExecutor) {
     this.jackpotRepository = jackpotRepository;
     this.betRepository = betRepository;
     this.rewardRepository = rewardRepository;
+    this.rewardChecker = rewardChecker;
+    this.rewardDecisionCache = rewardDecisionCache;
+    this.betProcessedNotifier = betProcessedNotifier;
+    this.stateBarrier = stateBarrier;
+    this.rewardExecutor = rewardExecutor;
   }
 
+  // A bet is drawn once, later calls get the same outcome from the decision cache or the stores
   public RewardResponse checkReward(UUID betId) {
+    return rewardDecisionCache.get(betId, this::decideReward);
+  }
+
+  // Taken when a bet of another user is stored under the id. A bet of the same user is the same
+  // bet sent again, it is dropped as a duplicate when it is processed.
+  public boolean isBetIdTaken(UUID betId, UUID userId) {
+    return betRepository.findById(betId)
+        .map(bet -> !Objects.equals(bet.getUserId(), userId))
+        .orElse(false);
+  }
+
+  // The reward once the bet has been processed, empty if it is not processed within the timeout.
+  // Nothing is parked on a thread while waiting. The check runs on the reward executor, so a draw
+  // never holds up the consumer thread that stored the bet. The notifier only hears of the bets
+  // this instance consumed, a bet consumed by another instance is found by the store check on
+  // timeout.
+  public CompletableFuture<Optional<RewardResponse>> awaitReward(UUID betId, Duration timeout) {
+    CompletableFuture<Void> processed = betProcessedNotifier.awaitProcessed(betId);
+    return processed
+        .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+        .handleAsync((ignored, ex) -> {
+          if (ex instanceof TimeoutException) {
+            betProcessedNotifier.cancel(betId, processed);
+            if (betRepository.findById(betId).isEmpty()) {
+              return Optional.empty();
+            }
+          }
+          return Optional.of(checkReward(betId));
+        }, rewardExecutor);
+  }
+
+  private RewardResponse decideReward(UUID betId) {
     Bet bet = betRepository.findById(betId)
         .orElseThrow(() -> new NotFoundException("Bet not found"));
-    Jackpot jackpot = jackpotRepository.findById(bet.getJackpotId())
-        .orElseThrow(() -> new NotFoundException("Jackpot not found"));
-
-    // Evaluate if the bet wins a reward
-    boolean isWinningBet = rewardChecker.evaluate(jackpot);
-    if (isWinningBet) {
-      // Create reward
-      BigDecimal rewardAmount = jackpot.getCurrentPool();
-      Reward reward = new Reward(
-          bet.getBetId(),
-          jackpot.getJackpotId(),
-          bet.getUserId(),
-          rewardAmount);
-
-      // Reset jackpot pool
-      jackpot.setCurrentPool(jackpot.getInitialPool());
-      jackpotRepository.save(jackpot);
-
-      // Save reward
-      rewardRepository.save(reward);
-
-      return toWinResponse(reward);
-    } else {
-      return new RewardResponse(
-          betId,
-          bet.getJackpotId(),
-          bet.getUserId(),
-          BigDecimal.ZERO,
-          null,
-          "Sorry, no reward this time. Better luck next time!"
-      );
+    // Always the case with inline evaluation, the bet was drawn when it was processed
+    if (bet.isRewardEvaluated()) {
+      return storedDecision(bet);
+    }
+
+    // Evaluate and reset under the jackpot lock so a payout never races with contributions. The
+    // bet is read again and flagged in the same step as the payout, so a bet is never drawn twice.
+    AtomicReference<Reward> wonReward = new AtomicReference<>();
+    AtomicBoolean alreadyEvaluated = new AtomicBoolean();
+    stateBarrier.shared(() -> jackpotRepository.update(bet.getJackpotId(), jackpot -> {
+      if (betRepository.findById(betId).map(Bet::isRewardEvaluated).orElse(false)) {
+        alreadyEvaluated.set(true);
+        return;
+      }
+      if (rewardChecker.evaluate(jackpot)) {
+        // Pays the pool and resets it in one step, a contribution is either in the payout or in
+        // the new pool
+        Reward reward = new Reward(
+            bet.getBetId(),
+            jackpot.getJackpotId(),
+            bet.getUserId(),
+            jackpot.claimPool());
+        rewardRepository.save(reward);
+        wonReward.set(reward);
+      }
+      // Flagged after the reward is saved, so a bet flagged as drawn always has its reward. Fails
+      // when another instance drew the bet meanwhile, which rolls this payout back.
+      if (!betRepository.markRewardEvaluated(betId)) {
+        throw new IllegalStateException("Bet " + betId + " was drawn concurrently");
+      }
+    })).orElseThrow(() -> new NotFoundException("Jackpot not found"));
 
+    if (alreadyEvaluated.get()) {
+      return storedDecision(bet);
     }
+
+    Reward reward = wonReward.get();
+    return reward != null ? toWinResponse(reward) : toLossResponse(bet);
+  }
+
+  private RewardResponse storedDecision(Bet bet) {
+    return rewardRepository.findByBetId(bet.getBetId())
+        .map(this::toWinResponse)
+        .orElseGet(() -> toLossResponse(bet));
+  }
+
+  private RewardResponse toLossResponse(Bet bet) {
+    return new RewardResponse(
+        bet.getBetId(),
+        bet.getJackpotId(),
+        bet.getUserId(),
+        BigDecimal.ZERO,
+        null,
+        "Sorry, no reward this time. Better luck next time!"
+    );
   }
 
   private RewardResponse toWinResponse(Reward reward) {
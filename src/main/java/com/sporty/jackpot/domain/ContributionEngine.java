@@ -0,0 +1,11 @@
+package com.sporty.jackpot.domain;
+
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.policy.ContributionPolicy;
+
+// Compiles the contribution policy of a jackpot from its contribution type and rules, selected
+// with jackpot.money.engine
+public interface ContributionEngine {
+
+  ContributionPolicy compile(Jackpot jackpot);
+}
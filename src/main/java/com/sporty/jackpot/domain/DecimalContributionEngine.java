@@ -0,0 +1,26 @@
+package com.sporty.jackpot.domain;
+
+import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.model.JackpotRules;
+import com.sporty.jackpot.domain.policy.ContributionPolicy;
+import com.sporty.jackpot.domain.policy.FixedContributionPolicy;
+import com.sporty.jackpot.domain.policy.VariableContributionPolicy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "jackpot.money.engine", havingValue = "decimal", matchIfMissing = true)
+public class DecimalContributionEngine implements ContributionEngine {
+
+  @Override
+  public ContributionPolicy compile(Jackpot jackpot) {
+    JackpotRules rules = jackpot.getRules();
+    if (jackpot.getContributionType() == ContributionType.VARIABLE) {
+      return new VariableContributionPolicy(jackpot.getInitialPool(),
+          rules.variableContributionRate(), rules.contributionDecreaseRate(),
+          rules.minContributionRate());
+    }
+    return new FixedContributionPolicy(rules.fixedContributionRate());
+  }
+}
@@ -0,0 +1,175 @@
+package com.sporty.jackpot.domain;
+
+import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.model.JackpotRules;
+import com.sporty.jackpot.domain.policy.ContributionPolicy;
+import java.math.BigDecimal;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Same rules and results as the decimal policies, including the scale of the result, computed on
+// unscaled longs. The rates and the initial pool are converted when the jackpot is compiled, so a
+// bet only costs long multiplications and one division for the pool ratio. Bets whose unscaled
+// value or intermediate products don't fit a long use the decimal policy, as do jackpots whose
+// rates or initial pool don't fit.
+@Component
+@ConditionalOnProperty(name = "jackpot.money.engine", havingValue = "fixed-point")
+public class FixedPointContributionEngine implements ContributionEngine {
+
+  private static final long OVERFLOW = Long.MIN_VALUE;
+  // The pool ratio is rounded HALF_UP to two decimals
+  private static final int RATIO_SCALE = 2;
+  private static final long[] POWERS_OF_TEN = new long[19];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  private final DecimalContributionEngine decimalEngine = new DecimalContributionEngine();
+
+  @Override
+  public ContributionPolicy compile(Jackpot jackpot) {
+    ContributionPolicy decimalPolicy = decimalEngine.compile(jackpot);
+    JackpotRules rules = jackpot.getRules();
+    try {
+      if (jackpot.getContributionType() == ContributionType.VARIABLE) {
+        return new VariablePolicy(jackpot.getInitialPool(), rules.variableContributionRate(),
+            rules.contributionDecreaseRate(), rules.minContributionRate(), decimalPolicy);
+      }
+      return new FixedPolicy(rules.fixedContributionRate(), decimalPolicy);
+    } catch (ArithmeticException e) {
+      return decimalPolicy;
+    }
+  }
+
+  private static final class FixedPolicy implements ContributionPolicy {
+
+    private final long rate;
+    private final int rateScale;
+    private final ContributionPolicy decimalPolicy;
+
+    FixedPolicy(BigDecimal rate, ContributionPolicy decimalPolicy) {
+      this.rate = rate.unscaledValue().longValueExact();
+      this.rateScale = rate.scale();
+      this.decimalPolicy = decimalPolicy;
+    }
+
+    @Override
+    public BigDecimal calculate(BigDecimal currentPool, BigDecimal betAmount) {
+      long bet = unscaled(betAmount);
+      long contribution = bet != OVERFLOW ? multiply(bet, rate) : OVERFLOW;
+      return contribution != OVERFLOW
+          ? BigDecimal.valueOf(contribution, betAmount.scale() + rateScale)
+          : decimalPolicy.calculate(currentPool, betAmount);
+    }
+  }
+
+  private static final class VariablePolicy implements ContributionPolicy {
+
+    private final long initialPool;
+    private final int initialPoolScale;
+    // initial rate - ratio * decrease rate, both at rateScale
+    private final long initialRate;
+    private final long decreaseRate;
+    private final int rateScale;
+    private final long minRate;
+    private final int minRateScale;
+    // The minimum and the factor bringing a rate to a common scale for the comparison
+    private final long minRateComparable;
+    private final long rateToComparable;
+    private final ContributionPolicy decimalPolicy;
+
+    VariablePolicy(BigDecimal initialPool, BigDecimal initialRate, BigDecimal decreaseRate,
+        BigDecimal minRate, ContributionPolicy decimalPolicy) {
+      this.initialPool = initialPool.unscaledValue().longValueExact();
+      this.initialPoolScale = initialPool.scale();
+      if (this.initialPool <= 0) {
+        throw new ArithmeticException("Initial pool must be positive");
+      }
+
+      this.rateScale = Math.max(initialRate.scale(), RATIO_SCALE + decreaseRate.scale());
+      this.initialRate = initialRate.setScale(rateScale).unscaledValue().longValueExact();
+      this.decreaseRate = decreaseRate.setScale(rateScale - RATIO_SCALE).unscaledValue()
+          .longValueExact();
+
+      this.minRate = minRate.unscaledValue().longValueExact();
+      this.minRateScale = minRate.scale();
+      int comparableScale = Math.max(rateScale, minRateScale);
+      if (comparableScale - rateScale >= POWERS_OF_TEN.length) {
+        throw new ArithmeticException("Minimum rate scale too large");
+      }
+      this.minRateComparable = minRate.setScale(comparableScale).unscaledValue().longValueExact();
+      this.rateToComparable = POWERS_OF_TEN[comparableScale - rateScale];
+      this.decimalPolicy = decimalPolicy;
+    }
+
+    @Override
+    public BigDecimal calculate(BigDecimal currentPool, BigDecimal betAmount) {
+      long bet = unscaled(betAmount);
+      long poolRatio = bet != OVERFLOW ? poolRatio(currentPool) : OVERFLOW;
+      long decrease = poolRatio != OVERFLOW ? multiply(poolRatio, decreaseRate) : OVERFLOW;
+      if (decrease == OVERFLOW) {
+        return decimalPolicy.calculate(currentPool, betAmount);
+      }
+
+      long rate = initialRate - decrease;
+      int scale = rateScale;
+      if (isBelowMinimum(rate)) {
+        rate = minRate;
+        scale = minRateScale;
+      }
+      long contribution = multiply(bet, rate);
+      return contribution != OVERFLOW
+          ? BigDecimal.valueOf(contribution, betAmount.scale() + scale)
+          : decimalPolicy.calculate(currentPool, betAmount);
+    }
+
+    private boolean isBelowMinimum(long rate) {
+      long comparable = multiply(rate, rateToComparable);
+      // A rate too negative to scale is below any minimum
+      return comparable == OVERFLOW || comparable < minRateComparable;
+    }
+
+    // currentPool / initialPool as an unscaled long at RATIO_SCALE, rounded HALF_UP
+    private long poolRatio(BigDecimal currentPool) {
+      if (currentPool == null) {
+        return POWERS_OF_TEN[RATIO_SCALE];
+      }
+      long current = unscaled(currentPool);
+      if (current == OVERFLOW || current < 0) {
+        return OVERFLOW;
+      }
+
+      int exponent = initialPoolScale - currentPool.scale() + RATIO_SCALE;
+      long dividend = exponent >= 0 ? scaleUp(current, exponent) : current;
+      long divisor = exponent >= 0 ? initialPool : scaleUp(initialPool, -exponent);
+      if (dividend == OVERFLOW || divisor == OVERFLOW) {
+        return OVERFLOW;
+      }
+      long quotient = dividend / divisor;
+      long remainder = dividend % divisor;
+      return remainder >= divisor - remainder ? quotient + 1 : quotient;
+    }
+  }
+
+  // unscaledValue() would allocate a BigInteger; values of up to 18 digits are held as a long and
+  // the scale-0 copy is read without one, and usually not allocated at all once inlined
+  private static long unscaled(BigDecimal value) {
+    return value.precision() <= 18
+        ? value.scaleByPowerOfTen(value.scale()).longValueExact() : OVERFLOW;
+  }
+
+  private static long scaleUp(long value, int exponent) {
+    return exponent < POWERS_OF_TEN.length ? multiply(value, POWERS_OF_TEN[exponent]) : OVERFLOW;
+  }
+
+  private static long multiply(long a, long b) {
+    long high = Math.multiplyHigh(a, b);
+    long low = a * b;
+    return (high == 0 && low >= 0) || (high == -1 && low < 0) ? low : OVERFLOW;
+  }
+}
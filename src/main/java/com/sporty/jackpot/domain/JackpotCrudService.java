@@ -1,38 +1,61 @@
 package com.sporty.jackpot.domain;
 
 import com.github.dockerjava.api.exception.NotFoundException;
+import com.sporty.jackpot.domain.model.ContributionType;
 import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.model.JackpotRules;
+import com.sporty.jackpot.domain.model.RewardType;
+import com.sporty.jackpot.domain.persistence.ContributionLedgerRepository;
 import com.sporty.jackpot.domain.persistence.JackpotRepository;
+import com.sporty.jackpot.domain.policy.JackpotPolicyRegistry;
 import com.sporty.jackpot.infra.api.model.JackpotRequest;
 import com.sporty.jackpot.infra.api.model.JackpotResponse;
-import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.springframework.stereotype.Service;
 
 @Service
 public class JackpotCrudService {
 
   private final JackpotRepository repository;
+  private final JackpotPolicyRegistry policyRegistry;
+  private final ContributionLedgerRepository contributionLedgerRepository;
 
-  public JackpotCrudService(JackpotRepository repository) {
+  public JackpotCrudService(JackpotRepository repository, JackpotPolicyRegistry policyRegistry,
+      ContributionLedgerRepository contributionLedgerRepository) {
     this.repository = repository;
+    this.policyRegistry = policyRegistry;
+    this.contributionLedgerRepository = contributionLedgerRepository;
   }
 
   public JackpotResponse create(JackpotRequest request) {
+    JackpotRules rules = request.rules() != null
+        ? request.rules().withDefaults() : JackpotRules.DEFAULTS;
     Jackpot jackpot = new Jackpot(
         request.name(),
         request.initialPool(),
         request.contributionType(),
-        request.rewardType()
+        request.rewardType(),
+        rules
     );
+    // Compiled before the jackpot is visible so its first bet doesn't pay for it
+    policyRegistry.register(jackpot);
     repository.save(jackpot);
     return toResponse(jackpot);
   }
 
-  public List<JackpotResponse> getAll() {
-    return repository.findAll().stream()
-        .map(this::toResponse)
-        .toList();
+  // Ordered by id and starting after afterId when given, the types are optional filters
+  public Stream<JackpotResponse> list(UUID afterId, ContributionType contributionType,
+      RewardType rewardType) {
+    return repository.findAllAfter(afterId)
+        .filter(jackpot -> contributionType == null
+            || jackpot.getContributionType() == contributionType)
+        .filter(jackpot -> rewardType == null || jackpot.getRewardType() == rewardType)
+        .map(this::toResponse);
+  }
+
+  public long version() {
+    return repository.version();
   }
 
   public JackpotResponse getById(UUID id) {
@@ -44,6 +67,8 @@ public class JackpotCrudService {
 
   public void delete(UUID id) {
     repository.delete(id);
+    policyRegistry.remove(id);
+    contributionLedgerRepository.remove(id);
   }
 
   private JackpotResponse toResponse(Jackpot jackpot) {
@@ -54,6 +79,7 @@ public class JackpotCrudService {
         jackpot.getCurrentPool(),
         jackpot.getContributionType(),
         jackpot.getRewardType(),
+        jackpot.getRules(),
         jackpot.getCreatedAt()
     );
   }
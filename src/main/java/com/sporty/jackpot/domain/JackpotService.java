@@ -4,12 +4,28 @@ import com.github.dockerjava.api.exception.NotFoundException;
 import com.sporty.jackpot.domain.model.Bet;
 import com.sporty.jackpot.domain.model.Contribution;
 import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.model.Reward;
 import com.sporty.jackpot.domain.persistence.BetRepository;
+import com.sporty.jackpot.domain.persistence.ContributionLedgerRepository;
 import com.sporty.jackpot.domain.persistence.JackpotRepository;
+import com.sporty.jackpot.domain.persistence.ProcessedBetRepository;
+import com.sporty.jackpot.domain.persistence.RewardRepository;
+import com.sporty.jackpot.domain.policy.ContributionPolicy;
+import com.sporty.jackpot.domain.policy.JackpotPolicyRegistry;
 import com.sporty.jackpot.infra.messaging.events.BetMessage;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -19,44 +35,223 @@ public class JackpotService {
 
   private final JackpotRepository jackpotRepository;
   private final BetRepository betRepository;
+  private final ProcessedBetRepository processedBetRepository;
+  private final ContributionLedgerRepository contributionLedgerRepository;
+  private final JackpotPolicyRegistry policyRegistry;
+  private final RewardRepository rewardRepository;
+  private final RewardChecker rewardChecker;
+  private final RewardEvaluation rewardEvaluation;
+  private final BetProcessedNotifier betProcessedNotifier;
+  private final StateBarrier stateBarrier;
+  private final boolean atomicPoolIncrements;
 
-  public JackpotService(JackpotRepository jackpotRepository, BetRepository betRepository) {
+  public JackpotService(JackpotRepository jackpotRepository,
+      BetRepository betRepository,
+      ProcessedBetRepository processedBetRepository,
+      ContributionLedgerRepository contributionLedgerRepository,
+      JackpotPolicyRegistry policyRegistry,
+      RewardRepository rewardRepository,
+      RewardChecker rewardChecker,
+      @Value("${jackpot.reward.evaluation:on-demand}") RewardEvaluation rewardEvaluation,
+      BetProcessedNotifier betProcessedNotifier,
+      StateBarrier stateBarrier,
+      // Only honored in the jpa mode. Its duplicate check is not under the jackpot lock, only the
+      // processed bet primary key keeps a bet consumed twice at once from being added twice.
+      @Value("#{'${jackpot.persistence.mode:memory}' == 'jpa'"
+          + " and ${jackpot.persistence.atomic-pool-increments:false}}")
+      boolean atomicPoolIncrements) {
     this.jackpotRepository = jackpotRepository;
     this.betRepository = betRepository;
+    this.processedBetRepository = processedBetRepository;
+    this.contributionLedgerRepository = contributionLedgerRepository;
+    this.policyRegistry = policyRegistry;
+    this.rewardRepository = rewardRepository;
+    this.rewardChecker = rewardChecker;
+    this.rewardEvaluation = rewardEvaluation;
+    this.betProcessedNotifier = betProcessedNotifier;
+    this.stateBarrier = stateBarrier;
+    this.atomicPoolIncrements = atomicPoolIncrements;
   }
 
   public void processBet(BetMessage betMessage) {
     logger.info("Processing bet: {}", betMessage);
 
     try {
-      Jackpot jackpot = jackpotRepository.findById(betMessage.jackpotId())
-          .orElseThrow(() -> new NotFoundException("Jackpot not found"));
+      // A checkpoint sees the bet either applied and stored or not at all
+      List<Bet> bets = stateBarrier.shared(() -> applyBets(betMessage.jackpotId(),
+          List.of(betMessage), acceptedBets -> acceptedBets.forEach(bet -> {
+            betRepository.save(bet);
+            logger.info("Bet saved: {}", bet);
+          })));
+      betProcessedNotifier.processed(bets);
+    } catch (Exception e) {
+      logger.error("Error processing bet", e);
+      throw new RuntimeException(e);
+    }
+  }
 
-      if (jackpot.getContributions().stream()
-          .anyMatch(c -> c.getBetId().equals(betMessage.betRequestId()))) {
-        logger.warn("Bet with id {} has already been processed", betMessage.betRequestId());
-        return;
+  // Applies a polled batch with a single pool update and bet save per jackpot. Bets of the same
+  // jackpot keep their arrival order, so the order within a partition is preserved.
+  public void processBets(List<BetMessage> betMessages) {
+    logger.info("Processing batch of {} bets", betMessages.size());
+
+    Map<UUID, List<BetMessage>> betsByJackpot = betMessages.stream()
+        .collect(Collectors.groupingBy(BetMessage::jackpotId, LinkedHashMap::new,
+            Collectors.toList()));
+
+    List<UUID> failedJackpots = new ArrayList<>();
+    betsByJackpot.forEach((jackpotId, bets) -> {
+      try {
+        List<Bet> acceptedBets = stateBarrier.shared(
+            () -> applyBets(jackpotId, bets, betRepository::saveAll));
+        betProcessedNotifier.processed(acceptedBets);
+      } catch (Exception e) {
+        logger.error("Error processing {} bets for jackpot {}", bets.size(), jackpotId, e);
+        failedJackpots.add(jackpotId);
       }
+    });
+
+    // The bets of a failed jackpot were not marked processed, a redelivery applies them
+    if (!failedJackpots.isEmpty()) {
+      throw new RuntimeException("Error processing bets for jackpots " + failedJackpots);
+    }
+  }
 
-      Bet bet = new Bet(betMessage.betRequestId(), betMessage.userId(), betMessage.jackpotId(),
-          betMessage.betAmount());
-      betRepository.save(bet);
-      logger.info("Bet saved: {}", bet);
+  // The bets are stored and then marked processed in the same step that applies them, so a
+  // failure leaves none of them marked and a redelivery applies them again
+  private List<Bet> applyBets(UUID jackpotId, List<BetMessage> betMessages,
+      Consumer<List<Bet>> storeBets) {
+    return atomicPoolIncrements && rewardEvaluation == RewardEvaluation.ON_DEMAND
+        ? contributeBets(jackpotId, betMessages, storeBets)
+        : updateBets(jackpotId, betMessages, storeBets);
+  }
 
-      BigDecimal contributionAmount = ContributionCalculator.calculate(jackpot,
-          betMessage.betAmount());
-      logger.info("Calculated contribution amount: {}", contributionAmount);
+  // The duplicate checks, the contributions and the pool update run under the jackpot lock so
+  // concurrent consumers and reward payouts never lose each other's updates. Inline draws run
+  // under the same lock, so each bet is drawn against the pool including its own contribution.
+  private List<Bet> updateBets(UUID jackpotId, List<BetMessage> betMessages,
+      Consumer<List<Bet>> storeBets) {
+    List<Bet> acceptedBets = new ArrayList<>(betMessages.size());
+    Jackpot jackpot = jackpotRepository.update(jackpotId, current -> {
+          Set<UUID> processed = findProcessed(betMessages);
+          Set<UUID> seen = new HashSet<>();
+          for (BetMessage betMessage : betMessages) {
+            if (isDuplicate(betMessage, processed, seen)) {
+              continue;
+            }
+            acceptedBets.add(applyBet(current, betMessage));
+          }
+          storeBets.accept(acceptedBets);
+          markProcessed(acceptedBets);
+        })
+        .orElseThrow(() -> new NotFoundException("Jackpot not found"));
+    logger.info("Jackpot updated: {}", jackpot);
+    return acceptedBets;
+  }
 
-      jackpot.addContribution(new Contribution(
-          bet.getBetId(),
-          contributionAmount));
+  // Without inline draws the bets only add to the pool, so their contributions are summed up front
+  // and added with a single atomic increment. The ledger entries, the bets and their processed
+  // marks are recorded in the same step as the increment, so they commit or fail together. A bet
+  // marked meanwhile by another consumer fails the step, the batch is redelivered without it.
+  // Contributions that depend on the pool are calculated from the pool as read before the
+  // increment, a concurrent claim in between is not seen by them.
+  private List<Bet> contributeBets(UUID jackpotId, List<BetMessage> betMessages,
+      Consumer<List<Bet>> storeBets) {
+    Jackpot jackpot = jackpotRepository.findById(jackpotId)
+        .orElseThrow(() -> new NotFoundException("Jackpot not found"));
+    ContributionPolicy contributionPolicy = policyRegistry.forJackpot(jackpot).contribution();
 
-      jackpotRepository.save(jackpot);
-      logger.info("Jackpot updated: {}", jackpot);
-    } catch (Exception e) {
-      logger.error("Error processing bet", e);
-      throw new RuntimeException(e);
+    List<Bet> acceptedBets = new ArrayList<>(betMessages.size());
+    List<Contribution> contributions = new ArrayList<>(betMessages.size());
+    Set<UUID> processed = findProcessed(betMessages);
+    Set<UUID> seen = new HashSet<>();
+    BigDecimal poolBefore = jackpot.getCurrentPool();
+    BigDecimal pool = poolBefore;
+    for (BetMessage betMessage : betMessages) {
+      if (isDuplicate(betMessage, processed, seen)) {
+        continue;
+      }
+      BigDecimal contributionAmount = contributionPolicy.calculate(pool, betMessage.betAmount());
+      logger.debug("Calculated contribution amount: {}", contributionAmount);
+      pool = pool.add(contributionAmount);
+      contributions.add(new Contribution(betMessage.betRequestId(), contributionAmount));
+      acceptedBets.add(new Bet(betMessage.betRequestId(), betMessage.userId(),
+          betMessage.jackpotId(), betMessage.betAmount()));
+    }
+    if (contributions.isEmpty()) {
+      return acceptedBets;
+    }
+
+    BigDecimal total = pool.subtract(poolBefore);
+    BigDecimal poolAfter = jackpotRepository.addToPool(jackpotId, total, after -> {
+          BigDecimal running = after.subtract(total);
+          for (Contribution contribution : contributions) {
+            running = running.add(contribution.getContributionAmount());
+            contributionLedgerRepository.append(jackpotId, contribution, running);
+          }
+          storeBets.accept(acceptedBets);
+          for (Bet bet : acceptedBets) {
+            if (!processedBetRepository.markProcessed(bet.getBetId())) {
+              throw new IllegalStateException(
+                  "Bet " + bet.getBetId() + " was processed concurrently");
+            }
+          }
+        })
+        .orElseThrow(() -> new NotFoundException("Jackpot not found"));
+    logger.info("Added {} to jackpot {}, pool is now {}", total, jackpotId, poolAfter);
+    return acceptedBets;
+  }
+
+  // The whole batch is looked up at once instead of one query per bet
+  private Set<UUID> findProcessed(List<BetMessage> betMessages) {
+    return processedBetRepository.findProcessed(
+        betMessages.stream().map(BetMessage::betRequestId).toList());
+  }
+
+  // Processed before, or earlier in the same batch
+  private boolean isDuplicate(BetMessage betMessage, Set<UUID> processed, Set<UUID> seen) {
+    if (processed.contains(betMessage.betRequestId()) || !seen.add(betMessage.betRequestId())) {
+      logger.warn("Bet with id {} has already been processed", betMessage.betRequestId());
+      return true;
+    }
+    return false;
+  }
+
+  private void markProcessed(List<Bet> bets) {
+    bets.forEach(bet -> processedBetRepository.markProcessed(bet.getBetId()));
+  }
+
+  private Bet applyBet(Jackpot jackpot, BetMessage betMessage) {
+    Bet bet = new Bet(betMessage.betRequestId(), betMessage.userId(), betMessage.jackpotId(),
+        betMessage.betAmount());
+
+    BigDecimal contributionAmount = policyRegistry.forJackpot(jackpot).contribution()
+        .calculate(jackpot.getCurrentPool(), betMessage.betAmount());
+    logger.debug("Calculated contribution amount: {}", contributionAmount);
+
+    Contribution contribution = new Contribution(bet.getBetId(), contributionAmount);
+    jackpot.addContribution(contribution);
+    contributionLedgerRepository.append(jackpot.getJackpotId(), contribution,
+        jackpot.getCurrentPool());
+
+    if (rewardEvaluation == RewardEvaluation.INLINE) {
+      drawReward(jackpot, bet);
+    }
+    return bet;
+  }
+
+  // The reward is saved before the bet, so a bet flagged as evaluated always has its reward stored
+  private void drawReward(Jackpot jackpot, Bet bet) {
+    if (rewardChecker.evaluate(jackpot)) {
+      Reward reward = new Reward(
+          bet.getBetId(),
+          jackpot.getJackpotId(),
+          bet.getUserId(),
+          jackpot.claimPool());
+      rewardRepository.save(reward);
+      logger.info("Bet {} won the jackpot: {}", bet.getBetId(), reward);
     }
+    bet.setRewardEvaluated(true);
   }
 
 
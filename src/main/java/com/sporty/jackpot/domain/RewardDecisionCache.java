@@ -0,0 +1,76 @@
+package com.sporty.jackpot.domain;
+
+import com.sporty.jackpot.infra.api.model.RewardResponse;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Reward decisions per bet. Concurrent calls for the same bet wait for the first one instead of
+// deciding again, and the most recent decisions are kept so repeated reads skip the stores.
+@Component
+public class RewardDecisionCache {
+
+  private final Map<UUID, CompletableFuture<RewardResponse>> decisions = new ConcurrentHashMap<>();
+  // Completion order, used to evict the oldest decisions
+  private final Queue<UUID> completionOrder = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger completed = new AtomicInteger();
+  private final int maxEntries;
+
+  public RewardDecisionCache(
+      @Value("${jackpot.reward.decision-cache-size:100000}") int maxEntries) {
+    this.maxEntries = maxEntries;
+  }
+
+  public RewardResponse get(UUID betId, Function<UUID, RewardResponse> decide) {
+    CompletableFuture<RewardResponse> decision = decisions.get(betId);
+    if (decision == null) {
+      CompletableFuture<RewardResponse> created = new CompletableFuture<>();
+      decision = decisions.putIfAbsent(betId, created);
+      if (decision == null) {
+        return decide(betId, created, decide);
+      }
+    }
+
+    try {
+      return decision.join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException cause ? cause : e;
+    }
+  }
+
+  private RewardResponse decide(UUID betId, CompletableFuture<RewardResponse> decision,
+      Function<UUID, RewardResponse> decide) {
+    RewardResponse response;
+    try {
+      response = decide.apply(betId);
+    } catch (RuntimeException e) {
+      // Failures are not kept, the waiting callers get the error and the next call decides again
+      decisions.remove(betId, decision);
+      decision.completeExceptionally(e);
+      throw e;
+    }
+
+    decision.complete(response);
+    completionOrder.add(betId);
+    if (completed.incrementAndGet() > maxEntries) {
+      evictOldest();
+    }
+    return response;
+  }
+
+  private void evictOldest() {
+    UUID oldest;
+    while (completed.get() > maxEntries && (oldest = completionOrder.poll()) != null) {
+      decisions.remove(oldest);
+      completed.decrementAndGet();
+    }
+  }
+}
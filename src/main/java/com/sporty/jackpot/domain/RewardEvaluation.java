@@ -0,0 +1,10 @@
+package com.sporty.jackpot.domain;
+
+public enum RewardEvaluation {
+
+  // The bet is drawn on the first checkReward call
+  ON_DEMAND,
+
+  // The bet is drawn while its contribution is applied, checkReward reads the stored decision
+  INLINE
+}
@@ -0,0 +1,49 @@
+package com.sporty.jackpot.domain;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Bet processing and reward draws change bets, rewards and pools together. They run shared, so
+// they do not wait for each other, while a state checkpoint runs exclusive and reads all of them
+// as one consistent view. Without checkpoints nothing runs exclusive and the lock is skipped.
+@Component
+public class StateBarrier {
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final boolean enabled;
+
+  // Only the memory mode writes checkpoints, see ConsumerCheckpointer
+  @Autowired
+  public StateBarrier(@Value("${jackpot.checkpoint.enabled:false}") boolean checkpointsEnabled,
+      @Value("${jackpot.persistence.mode:memory}") String persistenceMode) {
+    this(checkpointsEnabled && "memory".equals(persistenceMode));
+  }
+
+  public StateBarrier(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public <T> T shared(Supplier<T> action) {
+    if (!enabled) {
+      return action.get();
+    }
+    lock.readLock().lock();
+    try {
+      return action.get();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public <T> T exclusive(Supplier<T> action) {
+    lock.writeLock().lock();
+    try {
+      return action.get();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+}
@@ -18,6 +18,8 @@ public class Bet {
   private UUID jackpotId;
   private BigDecimal betAmount;
   private LocalDateTime createdAt = LocalDateTime.now();
+  // Set under the jackpot lock once the reward has been drawn, a bet is only drawn once
+  private volatile boolean rewardEvaluated;
 
   public Bet(UUID betId, UUID userId, UUID jackpotId, BigDecimal betAmount) {
     this.betId = betId;
@@ -3,8 +3,6 @@ package com.sporty.jackpot.domain.model;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -20,11 +18,12 @@ public class Jackpot {
   private UUID jackpotId = UUID.randomUUID();
   private String name;
   private BigDecimal initialPool = BigDecimal.ZERO;
-  private BigDecimal currentPool = BigDecimal.ZERO;
+  // Written under the repository's per-jackpot lock, read lock-free by reward checks
+  private volatile BigDecimal currentPool = BigDecimal.ZERO;
   private LocalDateTime createdAt = LocalDateTime.now();
   private ContributionType contributionType;
   private RewardType rewardType;
-  private List<Contribution> contributions = new ArrayList<>();
+  private JackpotRules rules = JackpotRules.DEFAULTS;
 
   public Jackpot(String name,
       BigDecimal initialPool,
@@ -37,9 +36,27 @@ public class Jackpot {
     this.rewardType = rewardType;
   }
 
+  public Jackpot(String name,
+      BigDecimal initialPool,
+      ContributionType contributionType,
+      RewardType rewardType,
+      JackpotRules rules) {
+    this(name, initialPool, contributionType, rewardType);
+    this.rules = rules;
+  }
+
+  // The contribution history lives in the ContributionLedgerRepository, the jackpot only keeps
+  // the resulting pool
   public void addContribution(Contribution contribution) {
-    this.contributions.add(contribution);
     this.currentPool = this.currentPool.add(contribution.getContributionAmount());
   }
+
+  // Pays out the whole pool and starts over from the initial pool, returns the amount paid.
+  // Callers hold the jackpot lock, see JackpotRepository.update.
+  public BigDecimal claimPool() {
+    BigDecimal claimed = this.currentPool;
+    this.currentPool = this.initialPool;
+    return claimed;
+  }
 }
 
@@ -0,0 +1,65 @@
+package com.sporty.jackpot.domain.model;
+
+import java.math.BigDecimal;
+
+// Rates and limits a jackpot is created with, compiled into its contribution and reward policies
+public record JackpotRules(
+    BigDecimal fixedContributionRate,
+    BigDecimal variableContributionRate,
+    BigDecimal contributionDecreaseRate,
+    BigDecimal minContributionRate,
+    BigDecimal fixedRewardChance,
+    BigDecimal variableRewardChance,
+    BigDecimal rewardIncreaseRate,
+    BigDecimal poolLimitMultiplier
+) {
+
+  public static final JackpotRules DEFAULTS = new JackpotRules(
+      new BigDecimal("0.10"), // 10%
+      new BigDecimal("0.20"), // 20%, decreasing as the pool grows
+      new BigDecimal("0.05"), // 5% decrease per pool ratio
+      new BigDecimal("0.05"), // 5%
+      new BigDecimal("0.01"), // 1%
+      new BigDecimal("0.005"), // 0.5%, increasing as the pool grows
+      new BigDecimal("0.001"), // 0.1% increase per pool ratio
+      new BigDecimal("10") // The reward is granted once the pool reaches 10x the initial pool
+  );
+
+  // Rules given in a request only carry the values that differ from the defaults
+  public JackpotRules withDefaults() {
+    JackpotRules rules = new JackpotRules(
+        orDefault(fixedContributionRate, DEFAULTS.fixedContributionRate),
+        orDefault(variableContributionRate, DEFAULTS.variableContributionRate),
+        orDefault(contributionDecreaseRate, DEFAULTS.contributionDecreaseRate),
+        orDefault(minContributionRate, DEFAULTS.minContributionRate),
+        orDefault(fixedRewardChance, DEFAULTS.fixedRewardChance),
+        orDefault(variableRewardChance, DEFAULTS.variableRewardChance),
+        orDefault(rewardIncreaseRate, DEFAULTS.rewardIncreaseRate),
+        orDefault(poolLimitMultiplier, DEFAULTS.poolLimitMultiplier));
+    rules.validate();
+    return rules;
+  }
+
+  private void validate() {
+    requireRate("fixedContributionRate", fixedContributionRate);
+    requireRate("variableContributionRate", variableContributionRate);
+    requireRate("contributionDecreaseRate", contributionDecreaseRate);
+    requireRate("minContributionRate", minContributionRate);
+    requireRate("fixedRewardChance", fixedRewardChance);
+    requireRate("variableRewardChance", variableRewardChance);
+    requireRate("rewardIncreaseRate", rewardIncreaseRate);
+    if (poolLimitMultiplier.signum() <= 0) {
+      throw new IllegalArgumentException("poolLimitMultiplier must be positive");
+    }
+  }
+
+  private static void requireRate(String name, BigDecimal rate) {
+    if (rate.signum() < 0 || rate.compareTo(BigDecimal.ONE) > 0) {
+      throw new IllegalArgumentException(name + " must be between 0 and 1");
+    }
+  }
+
+  private static BigDecimal orDefault(BigDecimal value, BigDecimal defaultValue) {
+    return value != null ? value : defaultValue;
+  }
+}
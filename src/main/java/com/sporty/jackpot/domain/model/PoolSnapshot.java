@@ -0,0 +1,20 @@
+package com.sporty.jackpot.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class PoolSnapshot {
+
+  private UUID jackpotId;
+  // Number of contributions included in the pool, the ledger can drop entries up to this point
+  private long sequence;
+  private BigDecimal pool;
+  private LocalDateTime takenAt;
+}
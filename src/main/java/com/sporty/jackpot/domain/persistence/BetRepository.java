@@ -13,5 +13,10 @@ public interface BetRepository {
 
   void save(Bet bet);
 
+  void saveAll(List<Bet> bets);
+
+  // Flags a stored bet as drawn, false when it already was or is not stored
+  boolean markRewardEvaluated(UUID betId);
+
   void delete(UUID betId);
 }
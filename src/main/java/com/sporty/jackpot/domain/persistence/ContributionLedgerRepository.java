@@ -0,0 +1,26 @@
+package com.sporty.jackpot.domain.persistence;
+
+import com.sporty.jackpot.domain.model.Contribution;
+import com.sporty.jackpot.domain.model.PoolSnapshot;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ContributionLedgerRepository {
+
+  void append(UUID jackpotId, Contribution contribution, BigDecimal poolAfter);
+
+  // Retained contributions of the jackpot, oldest first
+  List<Contribution> findByJackpotId(UUID jackpotId, int page, int size);
+
+  long count(UUID jackpotId);
+
+  Optional<PoolSnapshot> findLatestSnapshot(UUID jackpotId);
+
+  // Drops the contributions already covered by the latest snapshot, returns how many were dropped
+  int compact(UUID jackpotId);
+
+  // Drops the whole ledger of a deleted jackpot
+  void remove(UUID jackpotId);
+}
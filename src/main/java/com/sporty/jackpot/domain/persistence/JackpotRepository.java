@@ -2,9 +2,12 @@ package com.sporty.jackpot.domain.persistence;
 
 
 import com.sporty.jackpot.domain.model.Jackpot;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface JackpotRepository {
 
@@ -12,8 +15,24 @@ public interface JackpotRepository {
 
   List<Jackpot> findAll();
 
+  // Jackpots ordered by id, starting after afterId when given. Read lazily, so a listing sees the
+  // jackpots as they are when it reaches them.
+  Stream<Jackpot> findAllAfter(UUID afterId);
+
+  // Changes on every save, delete, update and claim, equal versions mean unchanged contents
+  long version();
+
   void save(Jackpot jackpot);
 
   void delete(UUID jackpotId);
-}
 
+  // Applies the updater atomically for the given jackpot: updates to the same jackpot never
+  // interleave, updates to different jackpots do not contend. Empty if the jackpot does not exist.
+  Optional<Jackpot> update(UUID jackpotId, Consumer<Jackpot> updater);
+
+  // Adds the amount to the pool in one atomic step, without loading and saving the jackpot, so
+  // contributions to a hot jackpot do not queue behind each other's reads. The recorder gets the
+  // pool after the addition and runs in the same atomic step, a failed recorder undoes it where
+  // the store can. Empty if the jackpot does not exist.
+  Optional<BigDecimal> addToPool(UUID jackpotId, BigDecimal amount, Consumer<BigDecimal> recorder);
+}
@@ -0,0 +1,17 @@
+package com.sporty.jackpot.domain.persistence;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ProcessedBetRepository {
+
+  // Records the bet as processed; false if it had already been recorded. A store that only
+  // detects it when the surrounding transaction commits fails that commit instead.
+  boolean markProcessed(UUID betId);
+
+  boolean isProcessed(UUID betId);
+
+  // The given bets already recorded as processed, looked up at once
+  Set<UUID> findProcessed(Collection<UUID> betIds);
+}
@@ -10,7 +10,15 @@ public interface RewardRepository {
 
   void save(Reward entity);
 
-  Optional<Reward> findById(UUID betId);
+  Optional<Reward> findById(UUID rewardId);
+
+  Optional<Reward> findByBetId(UUID betId);
+
+  // Rewards of the user, most recently saved first
+  List<Reward> findByUserId(UUID userId, int page, int size);
+
+  // Rewards paid by the jackpot, most recently saved first
+  List<Reward> findByJackpotId(UUID jackpotId, int page, int size);
 
   List<Reward> findAll();
 }
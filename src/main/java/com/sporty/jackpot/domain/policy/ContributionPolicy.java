@@ -0,0 +1,9 @@
+package com.sporty.jackpot.domain.policy;
+
+import java.math.BigDecimal;
+
+// Compiled once per jackpot from its contribution type and rules
+public interface ContributionPolicy {
+
+  BigDecimal calculate(BigDecimal currentPool, BigDecimal betAmount);
+}
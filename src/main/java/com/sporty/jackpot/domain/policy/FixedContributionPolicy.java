@@ -0,0 +1,17 @@
+package com.sporty.jackpot.domain.policy;
+
+import java.math.BigDecimal;
+
+public final class FixedContributionPolicy implements ContributionPolicy {
+
+  private final BigDecimal rate;
+
+  public FixedContributionPolicy(BigDecimal rate) {
+    this.rate = rate;
+  }
+
+  @Override
+  public BigDecimal calculate(BigDecimal currentPool, BigDecimal betAmount) {
+    return betAmount.multiply(rate);
+  }
+}
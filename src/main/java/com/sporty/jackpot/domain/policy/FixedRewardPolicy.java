@@ -0,0 +1,17 @@
+package com.sporty.jackpot.domain.policy;
+
+import java.math.BigDecimal;
+
+public final class FixedRewardPolicy implements RewardPolicy {
+
+  private final double chance;
+
+  public FixedRewardPolicy(BigDecimal chance) {
+    this.chance = chance.doubleValue();
+  }
+
+  @Override
+  public double winChance(BigDecimal currentPool) {
+    return chance;
+  }
+}
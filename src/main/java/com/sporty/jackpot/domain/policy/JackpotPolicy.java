@@ -0,0 +1,5 @@
+package com.sporty.jackpot.domain.policy;
+
+public record JackpotPolicy(ContributionPolicy contribution, RewardPolicy reward) {
+
+}
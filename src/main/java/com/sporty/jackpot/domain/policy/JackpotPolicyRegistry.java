@@ -0,0 +1,52 @@
+package com.sporty.jackpot.domain.policy;
+
+import com.sporty.jackpot.domain.ContributionEngine;
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.model.JackpotRules;
+import com.sporty.jackpot.domain.model.RewardType;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+// Jackpots created through the API are compiled when they are created, the ones already in the
+// repository on their first bet
+@Component
+public class JackpotPolicyRegistry {
+
+  private final ContributionEngine contributionEngine;
+  private final Map<UUID, JackpotPolicy> policies = new ConcurrentHashMap<>();
+
+  public JackpotPolicyRegistry(ContributionEngine contributionEngine) {
+    this.contributionEngine = contributionEngine;
+  }
+
+  public JackpotPolicy register(Jackpot jackpot) {
+    JackpotPolicy policy = compile(jackpot);
+    policies.put(jackpot.getJackpotId(), policy);
+    return policy;
+  }
+
+  public JackpotPolicy forJackpot(Jackpot jackpot) {
+    JackpotPolicy policy = policies.get(jackpot.getJackpotId());
+    return policy != null ? policy
+        : policies.computeIfAbsent(jackpot.getJackpotId(), id -> compile(jackpot));
+  }
+
+  public void remove(UUID jackpotId) {
+    policies.remove(jackpotId);
+  }
+
+  private JackpotPolicy compile(Jackpot jackpot) {
+    return new JackpotPolicy(contributionEngine.compile(jackpot), compileReward(jackpot));
+  }
+
+  private static RewardPolicy compileReward(Jackpot jackpot) {
+    JackpotRules rules = jackpot.getRules();
+    if (jackpot.getRewardType() == RewardType.VARIABLE) {
+      return new VariableRewardPolicy(jackpot.getInitialPool(), rules.variableRewardChance(),
+          rules.rewardIncreaseRate(), rules.poolLimitMultiplier());
+    }
+    return new FixedRewardPolicy(rules.fixedRewardChance());
+  }
+}
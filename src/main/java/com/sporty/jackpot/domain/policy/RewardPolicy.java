@@ -0,0 +1,9 @@
+package com.sporty.jackpot.domain.policy;
+
+import java.math.BigDecimal;
+
+// Compiled once per jackpot from its reward type and rules
+public interface RewardPolicy {
+
+  double winChance(BigDecimal currentPool);
+}
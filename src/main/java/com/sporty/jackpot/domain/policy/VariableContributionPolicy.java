@@ -0,0 +1,33 @@
+package com.sporty.jackpot.domain.policy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// Starts at the initial rate and decreases as the pool grows, never below the minimum rate
+public final class VariableContributionPolicy implements ContributionPolicy {
+
+  private final BigDecimal initialPool;
+  private final BigDecimal initialRate;
+  private final BigDecimal decreaseRate;
+  private final BigDecimal minRate;
+
+  public VariableContributionPolicy(BigDecimal initialPool, BigDecimal initialRate,
+      BigDecimal decreaseRate, BigDecimal minRate) {
+    this.initialPool = initialPool;
+    this.initialRate = initialRate;
+    this.decreaseRate = decreaseRate;
+    this.minRate = minRate;
+  }
+
+  @Override
+  public BigDecimal calculate(BigDecimal currentPool, BigDecimal betAmount) {
+    BigDecimal pool = currentPool != null ? currentPool : initialPool;
+    BigDecimal poolRatio = pool.divide(initialPool, 2, RoundingMode.HALF_UP);
+
+    BigDecimal rate = initialRate.subtract(poolRatio.multiply(decreaseRate));
+    if (rate.compareTo(minRate) < 0) {
+      rate = minRate;
+    }
+    return betAmount.multiply(rate);
+  }
+}
@@ -0,0 +1,34 @@
+package com.sporty.jackpot.domain.policy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// Starts at the initial chance and increases as the pool grows, the reward is certain once the
+// pool reaches its limit
+public final class VariableRewardPolicy implements RewardPolicy {
+
+  private final BigDecimal initialPool;
+  private final BigDecimal initialChance;
+  private final BigDecimal increaseRate;
+  private final BigDecimal poolLimit;
+
+  public VariableRewardPolicy(BigDecimal initialPool, BigDecimal initialChance,
+      BigDecimal increaseRate, BigDecimal poolLimitMultiplier) {
+    this.initialPool = initialPool;
+    this.initialChance = initialChance;
+    this.increaseRate = increaseRate;
+    this.poolLimit = initialPool.multiply(poolLimitMultiplier);
+  }
+
+  @Override
+  public double winChance(BigDecimal currentPool) {
+    BigDecimal pool = currentPool != null ? currentPool : initialPool;
+    if (pool.compareTo(poolLimit) >= 0) {
+      return 1.0;
+    }
+
+    BigDecimal poolRatio = pool.divide(initialPool, 2, RoundingMode.HALF_UP);
+    BigDecimal chance = initialChance.add(poolRatio.multiply(increaseRate));
+    return chance.compareTo(BigDecimal.ONE) > 0 ? 1.0 : chance.doubleValue();
+  }
+}
@@ -0,0 +1,8 @@
+package com.sporty.jackpot.domain.random;
+
+// Uniform doubles in [0, 1) for reward draws, selected with jackpot.reward.random
+@FunctionalInterface
+public interface RandomSource {
+
+  double nextDouble();
+}
@@ -0,0 +1,24 @@
+package com.sporty.jackpot.domain.random;
+
+import java.util.Random;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// A single stream from a fixed seed, so audits can replay the draws in the order they were taken.
+// All threads share the generator, the order is what makes the stream reproducible.
+@Component
+@ConditionalOnProperty(name = "jackpot.reward.random", havingValue = "seeded")
+public class SeededRandomSource implements RandomSource {
+
+  private final Random random;
+
+  public SeededRandomSource(@Value("${jackpot.reward.seed:0}") long seed) {
+    this.random = new Random(seed);
+  }
+
+  @Override
+  public double nextDouble() {
+    return random.nextDouble();
+  }
+}
@@ -0,0 +1,18 @@
+package com.sporty.jackpot.domain.random;
+
+import java.util.Random;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// One java.util.Random for all threads, as before the random sources were pluggable
+@Component
+@ConditionalOnProperty(name = "jackpot.reward.random", havingValue = "shared")
+public class SharedRandomSource implements RandomSource {
+
+  private final Random random = new Random();
+
+  @Override
+  public double nextDouble() {
+    return random.nextDouble();
+  }
+}
@@ -0,0 +1,23 @@
+package com.sporty.jackpot.domain.random;
+
+import java.util.SplittableRandom;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Every thread draws from its own generator split off a common root
+@Component
+@ConditionalOnProperty(name = "jackpot.reward.random", havingValue = "splittable")
+public class SplittableRandomSource implements RandomSource {
+
+  private final SplittableRandom root = new SplittableRandom();
+  private final ThreadLocal<SplittableRandom> generators = ThreadLocal.withInitial(this::split);
+
+  @Override
+  public double nextDouble() {
+    return generators.get().nextDouble();
+  }
+
+  private synchronized SplittableRandom split() {
+    return root.split();
+  }
+}
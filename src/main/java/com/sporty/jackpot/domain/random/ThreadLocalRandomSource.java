@@ -0,0 +1,16 @@
+package com.sporty.jackpot.domain.random;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "jackpot.reward.random", havingValue = "thread-local",
+    matchIfMissing = true)
+public class ThreadLocalRandomSource implements RandomSource {
+
+  @Override
+  public double nextDouble() {
+    return ThreadLocalRandom.current().nextDouble();
+  }
+}
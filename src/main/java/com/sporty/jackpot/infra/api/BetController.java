@@ -3,18 +3,25 @@ package com.sporty.jackpot.infra.api;
 import com.sporty.jackpot.domain.BetService;
 import com.sporty.jackpot.domain.model.Bet;
 import com.sporty.jackpot.infra.api.model.RewardResponse;
-import com.sporty.jackpot.infra.messaging.BetProducer;
+import com.sporty.jackpot.infra.messaging.BetOutbox;
+import com.sporty.jackpot.infra.messaging.BetPublishRejectedException;
 import com.sporty.jackpot.infra.messaging.events.BetMessage;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -23,29 +30,54 @@ public class BetController {
 
   private final Logger logger = LoggerFactory.getLogger(BetController.class);
 
-  private final BetProducer betProducer;
+  private final BetOutbox betOutbox;
   private final BetService betService;
+  private final Duration maxAwaitTimeout;
 
-  public BetController(BetProducer betProducer, BetService betService) {
-    this.betProducer = betProducer;
+  public BetController(BetOutbox betOutbox, BetService betService,
+      @Value("${jackpot.reward.max-await-timeout:20s}") Duration maxAwaitTimeout) {
+    this.betOutbox = betOutbox;
     this.betService = betService;
+    this.maxAwaitTimeout = maxAwaitTimeout;
   }
 
+  // Answers once the bet is in the outbox, or once the broker has acknowledged it when the outbox
+  // is disabled, without holding the request thread
   @PostMapping
-  public ResponseEntity<Bet> publishBet(@RequestBody Bet bet) {
+  public CompletableFuture<ResponseEntity<Bet>> publishBet(@RequestBody Bet bet) {
     logger.info("Publishing bet: {}", bet);
 
+    // The returned bet id is the one the reward has to be checked with. A client supplied id makes
+    // a retried request the same bet, an id another user's bet already has is refused.
+    if (bet.getBetId() == null) {
+      bet.setBetId(UUID.randomUUID());
+    } else if (betService.isBetIdTaken(bet.getBetId(), bet.getUserId())) {
+      logger.warn("Rejected bet {}: the id is taken by another user's bet", bet.getBetId());
+      return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
     BetMessage betMessage = new BetMessage(
-        UUID.randomUUID(),
+        bet.getBetId(),
         bet.getUserId(),
         bet.getJackpotId(),
         bet.getBetAmount(),
         LocalDateTime.now()
     );
 
-    betProducer.sendBet(betMessage);
+    return betOutbox.publish(betMessage)
+        .thenApply(result -> ResponseEntity.ok(bet))
+        .exceptionally(ex -> publishFailure(bet, ex));
+  }
 
-    return ResponseEntity.ok(bet);
+  private ResponseEntity<Bet> publishFailure(Bet bet, Throwable ex) {
+    Throwable cause = ex instanceof CompletionException && ex.getCause() != null
+        ? ex.getCause() : ex;
+    if (cause instanceof BetPublishRejectedException) {
+      logger.warn("Rejected bet {}: {}", bet.getBetId(), cause.getMessage());
+      return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+    }
+    logger.error("Failed to publish bet {}", bet.getBetId(), cause);
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
   }
 
   @GetMapping("/{betId}/reward")
@@ -54,4 +86,17 @@ public class BetController {
     RewardResponse reward = betService.checkReward(betId);
     return ResponseEntity.ok(reward);
   }
-}
\ No newline at end of file
+
+  // Long poll: answers once the bet has been processed and drawn, or with 202 when it is still
+  // pending after the timeout, so the client can ask again
+  @GetMapping("/{betId}/reward/await")
+  public CompletableFuture<ResponseEntity<RewardResponse>> awaitReward(@PathVariable UUID betId,
+      @RequestParam(required = false) Long timeoutMs) {
+    Duration timeout = timeoutMs == null || timeoutMs > maxAwaitTimeout.toMillis()
+        ? maxAwaitTimeout : Duration.ofMillis(Math.max(timeoutMs, 0));
+    logger.info("Awaiting reward for bet {} for up to {}", betId, timeout);
+    return betService.awaitReward(betId, timeout)
+        .thenApply(reward -> reward.map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.ACCEPTED).build()));
+  }
+}
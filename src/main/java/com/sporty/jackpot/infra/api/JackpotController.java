@@ -1,13 +1,27 @@
 package com.sporty.jackpot.infra.api;
 
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.github.dockerjava.api.exception.NotFoundException;
 import com.sporty.jackpot.domain.JackpotCrudService;
+import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.RewardType;
 import com.sporty.jackpot.infra.api.model.JackpotRequest;
 import com.sporty.jackpot.infra.api.model.JackpotResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -16,48 +30,128 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 @RequestMapping("/api/jackpots")
 public class JackpotController {
 
+  private static final int MAX_PAGE_SIZE = 1000;
+
   private final JackpotCrudService jackpotCrudService;
+  private final JackpotSnapshotCache snapshotCache;
+  private final ObjectWriter responseWriter;
 
-  public JackpotController(JackpotCrudService jackpotCrudService) {
+  public JackpotController(JackpotCrudService jackpotCrudService,
+      JackpotSnapshotCache snapshotCache, ObjectMapper objectMapper) {
     this.jackpotCrudService = jackpotCrudService;
+    this.snapshotCache = snapshotCache;
+    this.responseWriter = objectMapper.writerFor(JackpotResponse.class)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
   }
 
   @PostMapping
   public ResponseEntity<JackpotResponse> create(@RequestBody JackpotRequest req) {
     JackpotResponse response = jackpotCrudService.create(req);
+    snapshotCache.invalidate();
     return ResponseEntity.status(HttpStatus.CREATED).body(response);
   }
 
+  // A JSON array of the jackpots ordered by id. The full listing is served from the snapshot
+  // cache, filtered listings are written as they are read. With size, one page starting after
+  // the given id and a Link header to the next page while it may not be empty.
+  // The ETag is the repository version, so an unchanged listing answers 304 without being read.
   @GetMapping
-  public ResponseEntity<List<JackpotResponse>> getAll() {
-    List<JackpotResponse> response = jackpotCrudService.getAll();
-    return ResponseEntity.ok(response);
+  public ResponseEntity<StreamingResponseBody> getAll(
+      @RequestParam(required = false) UUID after,
+      @RequestParam(required = false) Integer size,
+      @RequestParam(required = false) ContributionType contributionType,
+      @RequestParam(required = false) RewardType rewardType,
+      WebRequest request) {
+    if (size != null && (size < 1 || size > MAX_PAGE_SIZE)) {
+      throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+    }
+
+    if (after == null && size == null && contributionType == null && rewardType == null) {
+      JackpotSnapshotCache.Snapshot snapshot = snapshotCache.current();
+      String etag = "\"" + snapshot.version() + "\"";
+      if (request.checkNotModified(etag)) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+      }
+      return ResponseEntity.ok()
+          .contentType(MediaType.APPLICATION_JSON)
+          .eTag(etag)
+          .body(out -> out.write(snapshot.listing()));
+    }
+
+    // Read before the listing, a change made while it is written gives a new ETag next time
+    String etag = "\"" + jackpotCrudService.version() + "\"";
+    if (request.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    Stream<JackpotResponse> jackpots = jackpotCrudService.list(after, contributionType,
+        rewardType);
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .eTag(etag);
+    if (size == null) {
+      return response.body(out -> writeArray(jackpots.iterator(), out));
+    }
+
+    List<JackpotResponse> page = jackpots.limit(size).toList();
+    if (page.size() == size) {
+      String next = ServletUriComponentsBuilder.fromCurrentRequest()
+          .replaceQueryParam("after", page.get(page.size() - 1).id())
+          .toUriString();
+      response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+    }
+    return response.body(out -> writeArray(page.iterator(), out));
   }
 
+  // Served from the snapshot cache, jackpots created since the last snapshot are read directly
   @GetMapping("/{jackpotId}")
-  public ResponseEntity<JackpotResponse> getById(@PathVariable UUID jackpotId) {
-    JackpotResponse response = jackpotCrudService.getById(jackpotId);
-    return ResponseEntity.ok(response);
+  public ResponseEntity<byte[]> getById(@PathVariable UUID jackpotId)
+      throws JsonProcessingException {
+    Optional<byte[]> cached = snapshotCache.current().jackpot(jackpotId);
+    byte[] response = cached.isPresent()
+        ? cached.get() : responseWriter.writeValueAsBytes(jackpotCrudService.getById(jackpotId));
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(response);
   }
 
   @DeleteMapping("/{jackpotId}")
   public ResponseEntity<JackpotResponse> deleteById(@PathVariable UUID jackpotId) {
     jackpotCrudService.delete(jackpotId);
+    snapshotCache.invalidate();
     return ResponseEntity.ok().build();
   }
 
+  private void writeArray(Iterator<JackpotResponse> jackpots, OutputStream out)
+      throws IOException {
+    try (JsonGenerator generator = responseWriter.createGenerator(out)) {
+      generator.writeStartArray();
+      while (jackpots.hasNext()) {
+        responseWriter.writeValue(generator, jackpots.next());
+      }
+      generator.writeEndArray();
+    }
+  }
+
   @ExceptionHandler(RuntimeException.class)
   public ResponseEntity<String> handleRuntimeException(RuntimeException ex) {
     return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ex.getMessage());
   }
 
 
+  @ExceptionHandler(IllegalArgumentException.class)
+  public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+  }
+
   @ExceptionHandler(NotFoundException.class)
   public ResponseEntity<String> handleRuntimeException(NotFoundException ex) {
      return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
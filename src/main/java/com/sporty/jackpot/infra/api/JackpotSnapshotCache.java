@@ -0,0 +1,141 @@
+package com.sporty.jackpot.infra.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sporty.jackpot.domain.JackpotCrudService;
+import com.sporty.jackpot.infra.api.model.JackpotResponse;
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Serialized jackpots for the read endpoints, kept in an immutable snapshot that is swapped as a
+// whole. A snapshot is rebuilt at most once per max-staleness and only when the repository
+// changed, and only jackpots whose response changed are serialized again. Bets never wait for it,
+// the rebuild runs on a reading thread while the others keep serving the previous snapshot unless
+// it was invalidated.
+@Component
+public class JackpotSnapshotCache {
+
+  private final JackpotCrudService jackpotCrudService;
+  private final ObjectWriter responseWriter;
+  private final long maxStalenessNanos;
+  private final Lock refreshLock = new ReentrantLock();
+  private volatile Snapshot snapshot;
+  private volatile boolean invalidated;
+
+  public JackpotSnapshotCache(JackpotCrudService jackpotCrudService, ObjectMapper objectMapper,
+      @Value("${jackpot.snapshot.max-staleness:100ms}") Duration maxStaleness) {
+    this.jackpotCrudService = jackpotCrudService;
+    this.responseWriter = objectMapper.writerFor(JackpotResponse.class);
+    this.maxStalenessNanos = maxStaleness.toNanos();
+  }
+
+  public Snapshot current() {
+    Snapshot current = snapshot;
+    if (current != null && !needsRefresh(current)) {
+      return current;
+    }
+
+    // The first and an invalidated snapshot are waited for, a refresh in progress may have started
+    // before the invalidation. Otherwise a single reader refreshes it.
+    if (current == null || invalidated) {
+      refreshLock.lock();
+    } else if (!refreshLock.tryLock()) {
+      return current;
+    }
+    try {
+      current = snapshot;
+      if (current == null || needsRefresh(current)) {
+        current = build(current);
+        snapshot = current;
+      }
+      return current;
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+
+  // Jackpots created or deleted are visible from the next read on, not after max-staleness
+  public void invalidate() {
+    invalidated = true;
+  }
+
+  private boolean needsRefresh(Snapshot current) {
+    return invalidated || (System.nanoTime() - current.builtAt >= maxStalenessNanos
+        && jackpotCrudService.version() != current.version);
+  }
+
+  private Snapshot build(Snapshot previous) {
+    invalidated = false;
+    // Read before the jackpots, a change made while building gives a newer version next time
+    long version = jackpotCrudService.version();
+    Map<UUID, Entry> entries = new HashMap<>();
+    ByteArrayOutputStream listing = new ByteArrayOutputStream();
+    listing.write('[');
+    jackpotCrudService.list(null, null, null).forEach(response -> {
+      Entry cached = previous != null ? previous.entries.get(response.id()) : null;
+      Entry entry = cached != null && cached.response.equals(response)
+          ? cached : new Entry(response, serialize(response));
+      if (!entries.isEmpty()) {
+        listing.write(',');
+      }
+      listing.writeBytes(entry.json);
+      entries.put(response.id(), entry);
+    });
+    listing.write(']');
+    return new Snapshot(version, System.nanoTime(), Collections.unmodifiableMap(entries),
+        listing.toByteArray());
+  }
+
+  private byte[] serialize(JackpotResponse response) {
+    try {
+      return responseWriter.writeValueAsBytes(response);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize jackpot " + response.id(), e);
+    }
+  }
+
+  private record Entry(JackpotResponse response, byte[] json) {
+
+  }
+
+  public static final class Snapshot {
+
+    private final long version;
+    private final long builtAt;
+    private final Map<UUID, Entry> entries;
+    private final byte[] listing;
+
+    private Snapshot(long version, long builtAt, Map<UUID, Entry> entries, byte[] listing) {
+      this.version = version;
+      this.builtAt = builtAt;
+      this.entries = entries;
+      this.listing = listing;
+    }
+
+    // The repository version the snapshot was built from
+    public long version() {
+      return version;
+    }
+
+    // The JSON array of all jackpots, ordered by id. Shared, callers must not change it.
+    public byte[] listing() {
+      return listing;
+    }
+
+    // Empty when the jackpot was created after the snapshot or does not exist
+    public Optional<byte[]> jackpot(UUID jackpotId) {
+      Entry entry = entries.get(jackpotId);
+      return entry != null ? Optional.of(entry.json) : Optional.empty();
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.sporty.jackpot.infra.api.model;
 
 import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.JackpotRules;
 import com.sporty.jackpot.domain.model.RewardType;
 import java.math.BigDecimal;
 
@@ -9,9 +10,15 @@ public record JackpotRequest(
     String name,
     BigDecimal initialPool,
     ContributionType contributionType,
-    RewardType rewardType
+    RewardType rewardType,
+    // Optional, rates left out keep their default
+    JackpotRules rules
 ) {
 
+  public JackpotRequest(String name, BigDecimal initialPool, ContributionType contributionType,
+      RewardType rewardType) {
+    this(name, initialPool, contributionType, rewardType, null);
+  }
 }
 
 
@@ -1,6 +1,7 @@
 package com.sporty.jackpot.infra.api.model;
 
 import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.JackpotRules;
 import com.sporty.jackpot.domain.model.RewardType;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -13,6 +14,7 @@ public record JackpotResponse(
     BigDecimal currentPool,
     ContributionType contributionType,
     RewardType rewardType,
+    JackpotRules rules,
     LocalDateTime createdAt
 ) {
 
@@ -0,0 +1,251 @@
+package com.sporty.jackpot.infra.messaging;
+
+import com.sporty.jackpot.infra.messaging.codec.BetMessageBinaryDeserializer;
+import com.sporty.jackpot.infra.messaging.codec.BetMessageBinarySerializer;
+import com.sporty.jackpot.infra.messaging.events.BetMessage;
+import com.sporty.jackpot.infra.persistence.wal.SnapshotFile;
+import com.sporty.jackpot.infra.persistence.wal.WalPosition;
+import com.sporty.jackpot.infra.persistence.wal.WriteAheadLog;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+// Accepts bets into a local write-ahead log and relays them to the broker from a background
+// thread, so accepting a bet costs an append and a shared fsync whatever state the broker is in.
+// The relay sends the pending bets in batches and retries a batch until the broker acknowledged
+// all of it. Bets sent again after a failure or a restart are dropped by the consumers as
+// duplicates. Disabled, bets are sent straight to the broker and answered on its acknowledgement.
+@Component
+public class BetOutbox implements MeterBinder, AutoCloseable {
+
+  private static final String TOPIC = "jackpot-bets";
+
+  private final Logger logger = LoggerFactory.getLogger(BetOutbox.class);
+
+  private final boolean enabled;
+  private final BetProducer betProducer;
+  private final int maxDepth;
+  private final int batchSize;
+  private final Duration retryBackoff;
+  private final Duration sendTimeout;
+
+  private final BetMessageBinarySerializer serializer = new BetMessageBinarySerializer();
+  private final WriteAheadLog log;
+  // Holds the log position up to which every bet was acknowledged by the broker
+  private final SnapshotFile relayedFile;
+  // Bets in log order, the ones of the batch being relayed are out of the queue but still counted
+  // by depth and oldest
+  private final BlockingQueue<Pending> pending = new LinkedBlockingQueue<>();
+  private final Lock appendLock = new ReentrantLock();
+  private final AtomicInteger depth = new AtomicInteger();
+  private volatile Pending oldest;
+  private volatile boolean running = true;
+  private final ExecutorService relayExecutor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "jackpot-outbox-relay");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  // The log position after the bet, null for bets recovered from the log but the last one
+  private record Pending(BetMessage betMessage, WalPosition end, long acceptedAt) {
+
+  }
+
+  public BetOutbox(
+      @Value("${jackpot.outbox.enabled:false}") boolean enabled,
+      @Value("${jackpot.outbox.directory:data/outbox}") Path directory,
+      @Value("${jackpot.outbox.segment-size:16MB}") DataSize segmentSize,
+      @Value("${jackpot.outbox.fsync:true}") boolean fsync,
+      @Value("${jackpot.outbox.max-depth:1000000}") int maxDepth,
+      @Value("${jackpot.outbox.batch-size:1000}") int batchSize,
+      @Value("${jackpot.outbox.retry-backoff:1s}") Duration retryBackoff,
+      @Value("${jackpot.outbox.send-timeout:30s}") Duration sendTimeout,
+      @Value("${jackpot.producer.max-in-flight:10000}") int maxInFlight,
+      BetProducer betProducer) {
+    // A batch larger than the producer lets in flight would be rejected in part on every attempt
+    if (batchSize < 1 || batchSize > maxInFlight) {
+      throw new IllegalArgumentException("jackpot.outbox.batch-size must be between 1 and "
+          + "jackpot.producer.max-in-flight (" + maxInFlight + "), was " + batchSize);
+    }
+    this.enabled = enabled;
+    this.betProducer = betProducer;
+    this.maxDepth = maxDepth;
+    this.batchSize = batchSize;
+    this.retryBackoff = retryBackoff;
+    this.sendTimeout = sendTimeout;
+    if (!enabled) {
+      this.log = null;
+      this.relayedFile = null;
+      return;
+    }
+
+    this.log = new WriteAheadLog(directory, (int) segmentSize.toBytes(), fsync);
+    this.relayedFile = new SnapshotFile(directory.resolve("relayed.position"));
+    WalPosition relayed = relayedFile.read().map(SnapshotFile.Snapshot::position)
+        .orElse(WalPosition.START);
+    List<BetMessage> recovered = new ArrayList<>();
+    try (BetMessageBinaryDeserializer deserializer = new BetMessageBinaryDeserializer()) {
+      log.recover(relayed, record -> recovered.add(deserializer.deserialize(TOPIC, record)));
+    }
+    long now = System.currentTimeMillis();
+    for (int i = 0; i < recovered.size(); i++) {
+      WalPosition end = i == recovered.size() - 1 ? log.position() : null;
+      pending.add(new Pending(recovered.get(i), end, now));
+    }
+    depth.set(recovered.size());
+    if (!recovered.isEmpty()) {
+      logger.info("Recovered {} bets not yet relayed from the outbox in {}", recovered.size(),
+          directory);
+    }
+    relayExecutor.execute(this::relay);
+  }
+
+  // Completes once the bet is appended to the outbox, or once the broker acknowledged it when the
+  // outbox is disabled. Fails fast with BetPublishRejectedException when the outbox is full.
+  public CompletableFuture<Void> publish(BetMessage betMessage) {
+    if (!enabled) {
+      return betProducer.sendBet(betMessage).thenAccept(result -> { });
+    }
+    if (depth.incrementAndGet() > maxDepth) {
+      depth.decrementAndGet();
+      return CompletableFuture.failedFuture(
+          new BetPublishRejectedException("Too many bets waiting in the outbox"));
+    }
+
+    long sequence;
+    try {
+      byte[] record = serializer.serialize(TOPIC, betMessage);
+      // The queue follows the log order, the relay marks everything before a bet's end as relayed
+      appendLock.lock();
+      try {
+        sequence = log.append(record);
+        pending.add(new Pending(betMessage, log.position(), System.currentTimeMillis()));
+      } finally {
+        appendLock.unlock();
+      }
+    } catch (RuntimeException e) {
+      depth.decrementAndGet();
+      return CompletableFuture.failedFuture(e);
+    }
+    try {
+      log.sync(sequence);
+    } catch (RuntimeException e) {
+      // The bet is appended and queued, so it is relayed anyway. Failing the request would have the
+      // client retry it as a second bet under a new id.
+      logger.warn("Failed to sync the outbox after bet {}, relaying it unsynced",
+          betMessage.betRequestId(), e);
+    }
+    return CompletableFuture.completedFuture(null);
+  }
+
+  // Bets accepted but not yet acknowledged by the broker
+  public int depth() {
+    return depth.get();
+  }
+
+  // How long the oldest bet not yet acknowledged by the broker has been waiting, zero when none
+  public long lagMillis() {
+    Pending head = oldest != null ? oldest : pending.peek();
+    return head == null ? 0 : Math.max(System.currentTimeMillis() - head.acceptedAt(), 0);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    if (!enabled) {
+      return;
+    }
+    Gauge.builder("jackpot.outbox.depth", this, BetOutbox::depth)
+        .description("Bets accepted but not yet acknowledged by the broker")
+        .register(registry);
+    TimeGauge.builder("jackpot.outbox.relay.lag", this, TimeUnit.MILLISECONDS,
+            BetOutbox::lagMillis)
+        .description("Age of the oldest bet not yet acknowledged by the broker")
+        .register(registry);
+  }
+
+  // Bets the relay has not finished stay in the log and are relayed on the next start
+  @Override
+  public void close() {
+    running = false;
+    relayExecutor.shutdownNow();
+    try {
+      relayExecutor.awaitTermination(30, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (log != null) {
+      log.close();
+    }
+  }
+
+  private void relay() {
+    List<Pending> batch = new ArrayList<>(batchSize);
+    while (running) {
+      try {
+        if (batch.isEmpty()) {
+          Pending first = pending.poll(100, TimeUnit.MILLISECONDS);
+          if (first == null) {
+            continue;
+          }
+          oldest = first;
+          batch.add(first);
+          pending.drainTo(batch, batchSize - 1);
+        }
+        send(batch);
+        markRelayed(batch);
+        oldest = null;
+        depth.addAndGet(-batch.size());
+        batch.clear();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        logger.warn("Failed to relay {} bets, retrying in {}", batch.size(), retryBackoff, e);
+        try {
+          Thread.sleep(retryBackoff.toMillis());
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  // The whole batch is sent again on failure, the producer batches the sends to each partition
+  private void send(List<Pending> batch) throws Exception {
+    CompletableFuture<?>[] acks = batch.stream()
+        .map(bet -> betProducer.sendBet(bet.betMessage()))
+        .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(acks).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private void markRelayed(List<Pending> batch) {
+    for (int i = batch.size() - 1; i >= 0; i--) {
+      WalPosition end = batch.get(i).end();
+      if (end != null) {
+        relayedFile.write(end, List.of());
+        log.deleteSegmentsBefore(end.segment());
+        return;
+      }
+    }
+  }
+}
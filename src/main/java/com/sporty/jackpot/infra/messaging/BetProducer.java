@@ -1,9 +1,15 @@
 package com.sporty.jackpot.infra.messaging;
 
 import com.sporty.jackpot.infra.messaging.events.BetMessage;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -12,13 +18,48 @@ public class BetProducer {
   private final Logger logger = LoggerFactory.getLogger(BetProducer.class);
 
   private final KafkaTemplate<String, BetMessage> kafkaTemplate;
+  private final Set<UUID> hotJackpots;
+  private final int hotJackpotShards;
+  // Bounds the bets sent but not yet acknowledged by the broker
+  private final Semaphore inFlight;
 
-  public BetProducer(KafkaTemplate<String, BetMessage> kafkaTemplate) {
+  public BetProducer(KafkaTemplate<String, BetMessage> kafkaTemplate,
+      @Value("${jackpot.producer.hot-jackpots:}") Set<UUID> hotJackpots,
+      @Value("${jackpot.producer.hot-jackpot-shards:1}") int hotJackpotShards,
+      @Value("${jackpot.producer.max-in-flight:10000}") int maxInFlight) {
     this.kafkaTemplate = kafkaTemplate;
+    this.hotJackpots = hotJackpots;
+    this.hotJackpotShards = hotJackpotShards;
+    this.inFlight = new Semaphore(maxInFlight);
   }
 
-  public void sendBet(BetMessage betMessage) {
+  // Completes when the broker acknowledges the bet. Fails fast with BetPublishRejectedException
+  // when too many bets are waiting for an acknowledgement.
+  public CompletableFuture<SendResult<String, BetMessage>> sendBet(BetMessage betMessage) {
+    if (!inFlight.tryAcquire()) {
+      return CompletableFuture.failedFuture(
+          new BetPublishRejectedException("Too many bets waiting for broker acknowledgement"));
+    }
+
     logger.info("Sending bet message: {}", betMessage);
-    kafkaTemplate.send("jackpot-bets", betMessage);
+    try {
+      return kafkaTemplate.send("jackpot-bets", partitionKey(betMessage), betMessage)
+          .whenComplete((result, ex) -> inFlight.release());
+    } catch (RuntimeException e) {
+      inFlight.release();
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  // Bets of a jackpot share a key, so they land on one partition and are applied by a single
+  // consumer thread. Hot jackpots can be spread over a few keys, trading that affinity for
+  // parallelism on the jackpot lock.
+  String partitionKey(BetMessage betMessage) {
+    String jackpotKey = betMessage.jackpotId().toString();
+    if (hotJackpotShards > 1 && hotJackpots.contains(betMessage.jackpotId())) {
+      int shard = Math.floorMod(betMessage.betRequestId().hashCode(), hotJackpotShards);
+      return jackpotKey + "#" + shard;
+    }
+    return jackpotKey;
   }
 }
@@ -0,0 +1,8 @@
+package com.sporty.jackpot.infra.messaging;
+
+public class BetPublishRejectedException extends RuntimeException {
+
+  public BetPublishRejectedException(String message) {
+    super(message);
+  }
+}
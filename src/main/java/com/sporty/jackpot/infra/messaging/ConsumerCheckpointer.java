@@ -0,0 +1,127 @@
+package com.sporty.jackpot.infra.messaging;
+
+import com.sporty.jackpot.domain.StateBarrier;
+import com.sporty.jackpot.infra.persistence.StateCheckpointStore;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+import org.springframework.stereotype.Component;
+
+// Checkpoints the in-memory state with the offset of the next record to consume in each
+// partition, and on start restores it and seeks there, so a restart replays only the records
+// consumed since the last checkpoint instead of the whole topic. The wal and jpa modes keep the
+// state themselves and have no checkpoint store, checkpoints are off with them.
+@Component
+public class ConsumerCheckpointer implements AutoCloseable {
+
+  private final Logger logger = LoggerFactory.getLogger(ConsumerCheckpointer.class);
+
+  private final boolean enabled;
+  private final StateCheckpointStore store;
+  private final StateBarrier stateBarrier;
+  private final Map<TopicPartition, Long> nextOffsets = new ConcurrentHashMap<>();
+  private final boolean restored;
+  private final ScheduledExecutorService scheduler;
+
+  @Autowired
+  public ConsumerCheckpointer(
+      @Value("${jackpot.checkpoint.enabled:false}") boolean enabled,
+      @Value("${jackpot.checkpoint.interval:30s}") Duration interval,
+      ObjectProvider<StateCheckpointStore> store,
+      StateBarrier stateBarrier) {
+    this(enabled, store.getIfAvailable(), stateBarrier);
+    if (this.enabled) {
+      scheduler.scheduleWithFixedDelay(this::checkpointQuietly, interval.toMillis(),
+          interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  ConsumerCheckpointer(boolean enabled, StateCheckpointStore store, StateBarrier stateBarrier) {
+    if (enabled && store == null) {
+      logger.warn("State checkpoints are only written in the memory persistence mode, disabled");
+    }
+    this.enabled = enabled && store != null;
+    this.store = store;
+    this.stateBarrier = stateBarrier;
+    this.restored = this.enabled && store.restore().map(offsets -> {
+      nextOffsets.putAll(offsets);
+      return true;
+    }).orElse(false);
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "jackpot-checkpoint");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  // Called once the records are applied. The offsets may lag behind the state a checkpoint
+  // reads, the records in between are consumed again and dropped as duplicates.
+  public void processed(String topic, int partition, long offset) {
+    if (enabled) {
+      nextOffsets.merge(new TopicPartition(topic, partition), offset + 1, Math::max);
+    }
+  }
+
+  public void processed(List<String> topics, List<Integer> partitions, List<Long> offsets) {
+    for (int i = 0; i < offsets.size(); i++) {
+      processed(topics.get(i), partitions.get(i), offsets.get(i));
+    }
+  }
+
+  // Resumes where the state left off. Once a checkpoint was restored, a partition missing from it
+  // had nothing applied and is read from the beginning, whatever offset the group committed.
+  public void onPartitionsAssigned(Collection<TopicPartition> assignments,
+      ConsumerSeekCallback callback) {
+    if (!enabled) {
+      return;
+    }
+    for (TopicPartition partition : assignments) {
+      Long offset = nextOffsets.get(partition);
+      if (offset != null) {
+        callback.seek(partition.topic(), partition.partition(), offset);
+      } else if (restored) {
+        callback.seekToBeginning(List.of(partition));
+      }
+    }
+  }
+
+  // Only encoding the state holds up processing, the file is written and forced after
+  public void checkpoint() {
+    store.write(stateBarrier.exclusive(() -> store.capture(Map.copyOf(nextOffsets))));
+  }
+
+  // The listener containers are stopped before this bean is closed, so the last checkpoint
+  // covers every record consumed
+  @Override
+  public void close() {
+    scheduler.shutdown();
+    try {
+      scheduler.awaitTermination(30, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (enabled) {
+      checkpoint();
+    }
+  }
+
+  private void checkpointQuietly() {
+    try {
+      checkpoint();
+    } catch (RuntimeException e) {
+      logger.error("Failed to write the state checkpoint", e);
+    }
+  }
+}
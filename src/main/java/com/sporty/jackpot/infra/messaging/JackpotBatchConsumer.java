@@ -0,0 +1,47 @@
+package com.sporty.jackpot.infra.messaging;
+
+import com.sporty.jackpot.domain.JackpotService;
+import com.sporty.jackpot.infra.messaging.events.BetMessage;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Service;
+
+@Service
+@ConditionalOnProperty(name = "jackpot.consumer.mode", havingValue = "batch")
+public class JackpotBatchConsumer implements ConsumerSeekAware {
+
+  private final Logger logger = LoggerFactory.getLogger(JackpotBatchConsumer.class);
+
+  private final JackpotService jackpotService;
+  private final ConsumerCheckpointer checkpointer;
+
+  public JackpotBatchConsumer(JackpotService jackpotService, ConsumerCheckpointer checkpointer) {
+    this.jackpotService = jackpotService;
+    this.checkpointer = checkpointer;
+  }
+
+  @KafkaListener(topics = "jackpot-bets", groupId = "jackpot-group",
+      containerFactory = "betBatchListenerContainerFactory")
+  public void consumeBets(List<BetMessage> betMessages,
+      @Header(KafkaHeaders.RECEIVED_TOPIC) List<String> topics,
+      @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
+      @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
+    logger.info("Received {} BetMessages", betMessages.size());
+    jackpotService.processBets(betMessages);
+    checkpointer.processed(topics, partitions, offsets);
+  }
+
+  @Override
+  public void onPartitionsAssigned(Map<TopicPartition, Long> assignments,
+      ConsumerSeekCallback callback) {
+    checkpointer.onPartitionsAssigned(assignments.keySet(), callback);
+  }
+}
@@ -2,25 +2,44 @@ package com.sporty.jackpot.infra.messaging;
 
 import com.sporty.jackpot.domain.JackpotService;
 import com.sporty.jackpot.infra.messaging.events.BetMessage;
+import java.util.Map;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 
 @Service
-public class JackpotConsumer {
+@ConditionalOnProperty(name = "jackpot.consumer.mode", havingValue = "single", matchIfMissing = true)
+public class JackpotConsumer implements ConsumerSeekAware {
 
   private final Logger logger = LoggerFactory.getLogger(JackpotConsumer.class);
 
   private final JackpotService jackpotService;
+  private final ConsumerCheckpointer checkpointer;
 
-  public JackpotConsumer(JackpotService jackpotService) {
+  public JackpotConsumer(JackpotService jackpotService, ConsumerCheckpointer checkpointer) {
     this.jackpotService = jackpotService;
+    this.checkpointer = checkpointer;
   }
 
   @KafkaListener(topics = "jackpot-bets", groupId = "jackpot-group")
-  public void consumeBet(BetMessage betMessage) {
+  public void consumeBet(BetMessage betMessage,
+      @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+      @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+      @Header(KafkaHeaders.OFFSET) long offset) {
     logger.info("Received BetMessage: {}", betMessage);
     jackpotService.processBet(betMessage);
+    checkpointer.processed(topic, partition, offset);
+  }
+
+  @Override
+  public void onPartitionsAssigned(Map<TopicPartition, Long> assignments,
+      ConsumerSeekCallback callback) {
+    checkpointer.onPartitionsAssigned(assignments.keySet(), callback);
   }
 }
\ No newline at end of file
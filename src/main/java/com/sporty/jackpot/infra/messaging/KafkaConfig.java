@@ -1,17 +1,29 @@
 package com.sporty.jackpot.infra.messaging;
 
+import com.sporty.jackpot.infra.messaging.codec.BetMessageCodec;
 import com.sporty.jackpot.infra.messaging.events.BetMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.unit.DataSize;
 
 @Configuration
 public class KafkaConfig {
@@ -19,18 +31,73 @@ public class KafkaConfig {
   @Value("${spring.kafka.bootstrap-servers}")
   private String bootstrapServers;
 
+  @Value("${jackpot.producer.profile:throughput}")
+  private ProducerProfile producerProfile;
+
+  @Value("${jackpot.messaging.codec:json}")
+  private BetMessageCodec codec;
+
+  @Value("${jackpot.consumer.batch.max-size:500}")
+  private int batchMaxSize;
+
+  @Value("${jackpot.consumer.batch.min-bytes:16KB}")
+  private DataSize batchMinBytes;
+
+  @Value("${jackpot.consumer.batch.max-wait:100ms}")
+  private Duration batchMaxWait;
+
   @Bean
-  public ProducerFactory<String, BetMessage> betProducerFactory() {
-    Map<String, Object> configProps = new HashMap<>();
+  public ProducerFactory<String, BetMessage> betProducerFactory(KafkaProperties kafkaProperties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    Map<String, Object> configProps = new HashMap<>(producerProfile.settings());
+    // Settings given explicitly under spring.kafka.producer win over the profile
+    configProps.putAll(kafkaProperties.buildProducerProperties(null));
     configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
     configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-    configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-    return new DefaultKafkaProducerFactory<>(configProps);
+    configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, codec.serializer());
+
+    DefaultKafkaProducerFactory<String, BetMessage> producerFactory =
+        new DefaultKafkaProducerFactory<>(configProps);
+    // Publishes the kafka.producer.* client metrics, e.g. batch size, compression rate, latency
+    meterRegistry.ifAvailable(
+        registry -> producerFactory.addListener(new MicrometerProducerListener<>(registry)));
+    return producerFactory;
   }
 
   @Bean
-  public KafkaTemplate<String, BetMessage> betKafkaTemplate() {
-    return new KafkaTemplate<>(betProducerFactory());
+  public KafkaTemplate<String, BetMessage> betKafkaTemplate(
+      ProducerFactory<String, BetMessage> betProducerFactory) {
+    return new KafkaTemplate<>(betProducerFactory);
+  }
+
+  @Bean
+  public ConsumerFactory<Object, Object> kafkaConsumerFactory(KafkaProperties kafkaProperties) {
+    return new DefaultKafkaConsumerFactory<>(consumerProperties(kafkaProperties));
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "jackpot.consumer.mode", havingValue = "batch")
+  public ConcurrentKafkaListenerContainerFactory<Object, Object> betBatchListenerContainerFactory(
+      ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+      KafkaProperties kafkaProperties) {
+    Map<String, Object> consumerProps = consumerProperties(kafkaProperties);
+    // Each poll returns up to max-size records. The broker holds a fetch until min-bytes of them
+    // accumulated, or max-wait passed
+    consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchMaxSize);
+    consumerProps.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, (int) batchMinBytes.toBytes());
+    consumerProps.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, (int) batchMaxWait.toMillis());
+
+    ConcurrentKafkaListenerContainerFactory<Object, Object> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    configurer.configure(factory, new DefaultKafkaConsumerFactory<>(consumerProps));
+    factory.setBatchListener(true);
+    return factory;
+  }
+
+  private Map<String, Object> consumerProperties(KafkaProperties kafkaProperties) {
+    Map<String, Object> consumerProps = kafkaProperties.buildConsumerProperties(null);
+    consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, codec.deserializer());
+    return consumerProps;
   }
 
-}
\ No newline at end of file
+}
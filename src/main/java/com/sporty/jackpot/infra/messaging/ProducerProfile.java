@@ -0,0 +1,39 @@
+package com.sporty.jackpot.infra.messaging;
+
+import java.util.Map;
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+// Both profiles bound how long a send waits for broker metadata or buffer space, the wait is on
+// the calling thread, so an unreachable broker fails the send instead of holding the request
+public enum ProducerProfile {
+
+  // Waits a little to build large compressed batches, idempotence keeps retries duplicate-free
+  THROUGHPUT(Map.of(
+      ProducerConfig.LINGER_MS_CONFIG, 20,
+      ProducerConfig.BATCH_SIZE_CONFIG, 131072,
+      ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4",
+      ProducerConfig.ACKS_CONFIG, "all",
+      ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true,
+      ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5,
+      ProducerConfig.MAX_BLOCK_MS_CONFIG, 1000)),
+
+  // Sends right away and only waits for the leader, duplicates are dropped by the consumer
+  LATENCY(Map.of(
+      ProducerConfig.LINGER_MS_CONFIG, 0,
+      ProducerConfig.BATCH_SIZE_CONFIG, 16384,
+      ProducerConfig.COMPRESSION_TYPE_CONFIG, "none",
+      ProducerConfig.ACKS_CONFIG, "1",
+      ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, false,
+      ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5,
+      ProducerConfig.MAX_BLOCK_MS_CONFIG, 1000));
+
+  private final Map<String, Object> settings;
+
+  ProducerProfile(Map<String, Object> settings) {
+    this.settings = settings;
+  }
+
+  public Map<String, Object> settings() {
+    return settings;
+  }
+}
@@ -0,0 +1,34 @@
+package com.sporty.jackpot.infra.messaging.codec;
+
+import com.sporty.jackpot.infra.messaging.events.BetMessage;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+public class BetMessageBinaryDeserializer implements Deserializer<BetMessage> {
+
+  // Records still in the topic from before the switch to the binary codec are JSON objects
+  private final JsonDeserializer<BetMessage> jsonDeserializer =
+      new JsonDeserializer<>(BetMessage.class, false);
+
+  @Override
+  public BetMessage deserialize(String topic, byte[] data) {
+    return deserialize(topic, null, data);
+  }
+
+  @Override
+  public BetMessage deserialize(String topic, Headers headers, byte[] data) {
+    if (data == null) {
+      return null;
+    }
+    if (data.length > 0 && data[0] == '{') {
+      return jsonDeserializer.deserialize(topic, data);
+    }
+    return BetMessageBinaryFormat.decode(data);
+  }
+
+  @Override
+  public void close() {
+    jsonDeserializer.close();
+  }
+}
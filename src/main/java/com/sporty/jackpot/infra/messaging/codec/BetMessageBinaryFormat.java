@@ -0,0 +1,103 @@
+package com.sporty.jackpot.infra.messaging.codec;
+
+import com.sporty.jackpot.infra.messaging.events.BetMessage;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.apache.kafka.common.errors.SerializationException;
+
+// Fixed 67 byte layout: version, presence bits, three UUIDs as two longs each, the amount as scale
+// and unscaled long, and createdAt as UTC epoch millis
+final class BetMessageBinaryFormat {
+
+  static final byte VERSION = 1;
+  static final int SIZE = 1 + 1 + 3 * 16 + 1 + 8 + 8;
+
+  private static final int BET_REQUEST_ID = 1;
+  private static final int USER_ID = 1 << 1;
+  private static final int JACKPOT_ID = 1 << 2;
+  private static final int BET_AMOUNT = 1 << 3;
+  private static final int CREATED_AT = 1 << 4;
+
+  private static final BigInteger MIN_LONG = BigInteger.valueOf(Long.MIN_VALUE);
+  private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+
+  private BetMessageBinaryFormat() {
+  }
+
+  static byte[] encode(BetMessage betMessage) {
+    ByteBuffer buffer = ByteBuffer.allocate(SIZE);
+    buffer.put(VERSION);
+    buffer.put((byte) presence(betMessage));
+    putUuid(buffer, betMessage.betRequestId());
+    putUuid(buffer, betMessage.userId());
+    putUuid(buffer, betMessage.jackpotId());
+    putAmount(buffer, betMessage.betAmount());
+    buffer.putLong(betMessage.createdAt() == null
+        ? 0 : betMessage.createdAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+    return buffer.array();
+  }
+
+  static BetMessage decode(byte[] data) {
+    if (data.length != SIZE || data[0] != VERSION) {
+      throw new SerializationException(
+          "Unsupported BetMessage encoding, version " + data[0] + ", " + data.length + " bytes");
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(data, 1, SIZE - 1);
+    int presence = buffer.get();
+    UUID betRequestId = getUuid(buffer, presence, BET_REQUEST_ID);
+    UUID userId = getUuid(buffer, presence, USER_ID);
+    UUID jackpotId = getUuid(buffer, presence, JACKPOT_ID);
+    int scale = buffer.get();
+    long unscaledAmount = buffer.getLong();
+    long createdAtMillis = buffer.getLong();
+    return new BetMessage(
+        betRequestId,
+        userId,
+        jackpotId,
+        (presence & BET_AMOUNT) != 0 ? BigDecimal.valueOf(unscaledAmount, scale) : null,
+        (presence & CREATED_AT) != 0
+            ? LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAtMillis), ZoneOffset.UTC)
+            : null);
+  }
+
+  private static int presence(BetMessage betMessage) {
+    int presence = 0;
+    presence |= betMessage.betRequestId() != null ? BET_REQUEST_ID : 0;
+    presence |= betMessage.userId() != null ? USER_ID : 0;
+    presence |= betMessage.jackpotId() != null ? JACKPOT_ID : 0;
+    presence |= betMessage.betAmount() != null ? BET_AMOUNT : 0;
+    presence |= betMessage.createdAt() != null ? CREATED_AT : 0;
+    return presence;
+  }
+
+  private static void putUuid(ByteBuffer buffer, UUID uuid) {
+    buffer.putLong(uuid == null ? 0 : uuid.getMostSignificantBits());
+    buffer.putLong(uuid == null ? 0 : uuid.getLeastSignificantBits());
+  }
+
+  private static UUID getUuid(ByteBuffer buffer, int presence, int field) {
+    long mostSignificantBits = buffer.getLong();
+    long leastSignificantBits = buffer.getLong();
+    return (presence & field) != 0 ? new UUID(mostSignificantBits, leastSignificantBits) : null;
+  }
+
+  private static void putAmount(ByteBuffer buffer, BigDecimal amount) {
+    if (amount == null) {
+      buffer.put((byte) 0);
+      buffer.putLong(0);
+      return;
+    }
+    BigInteger unscaled = amount.unscaledValue();
+    if (amount.scale() < Byte.MIN_VALUE || amount.scale() > Byte.MAX_VALUE
+        || unscaled.compareTo(MIN_LONG) < 0 || unscaled.compareTo(MAX_LONG) > 0) {
+      throw new SerializationException("Bet amount " + amount + " does not fit a scaled long");
+    }
+    buffer.put((byte) amount.scale());
+    buffer.putLong(unscaled.longValue());
+  }
+}
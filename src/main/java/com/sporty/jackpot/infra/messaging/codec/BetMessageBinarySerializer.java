@@ -0,0 +1,12 @@
+package com.sporty.jackpot.infra.messaging.codec;
+
+import com.sporty.jackpot.infra.messaging.events.BetMessage;
+import org.apache.kafka.common.serialization.Serializer;
+
+public class BetMessageBinarySerializer implements Serializer<BetMessage> {
+
+  @Override
+  public byte[] serialize(String topic, BetMessage betMessage) {
+    return betMessage == null ? null : BetMessageBinaryFormat.encode(betMessage);
+  }
+}
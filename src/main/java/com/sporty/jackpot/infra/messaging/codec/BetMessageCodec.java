@@ -0,0 +1,34 @@
+package com.sporty.jackpot.infra.messaging.codec;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+public enum BetMessageCodec {
+
+  JSON(JsonSerializer.class, JsonDeserializer.class),
+  BINARY(BetMessageBinarySerializer.class, BetMessageBinaryDeserializer.class);
+
+  @SuppressWarnings("rawtypes")
+  private final Class<? extends Serializer> serializer;
+  @SuppressWarnings("rawtypes")
+  private final Class<? extends Deserializer> deserializer;
+
+  @SuppressWarnings("rawtypes")
+  BetMessageCodec(Class<? extends Serializer> serializer,
+      Class<? extends Deserializer> deserializer) {
+    this.serializer = serializer;
+    this.deserializer = deserializer;
+  }
+
+  @SuppressWarnings("rawtypes")
+  public Class<? extends Serializer> serializer() {
+    return serializer;
+  }
+
+  @SuppressWarnings("rawtypes")
+  public Class<? extends Deserializer> deserializer() {
+    return deserializer;
+  }
+}
@@ -2,21 +2,28 @@ package com.sporty.jackpot.infra.persistence;
 
 import com.sporty.jackpot.domain.model.Bet;
 import com.sporty.jackpot.domain.persistence.BetRepository;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Repository;
 
 @Repository
+@ConditionalOnExpression("'${jackpot.persistence.mode:memory}' != 'jpa'")
 public class BetRepositoryInMemory implements BetRepository {
 
-  private final Map<UUID, Bet> storage = new HashMap<>();
+  private final Map<UUID, Bet> storage = new ConcurrentHashMap<>();
+  // Bets not drawn yet, so the state checkpoint reads them without going through every bet
+  private final Set<UUID> undrawn = ConcurrentHashMap.newKeySet();
 
   @Override
   public Optional<Bet> findById(UUID betId) {
-    return storage.containsKey(betId) ? Optional.of(storage.get(betId)) : Optional.empty();
+    return Optional.ofNullable(storage.get(betId));
   }
 
   @Override
@@ -24,13 +31,46 @@ public class BetRepositoryInMemory implements BetRepository {
     return storage.values().stream().toList();
   }
 
+  // Bets not drawn yet, the ones drawn meanwhile may still be passed
+  public void forEachUndrawn(Consumer<Bet> action) {
+    for (UUID betId : undrawn) {
+      Bet bet = storage.get(betId);
+      if (bet != null) {
+        action.accept(bet);
+      }
+    }
+  }
+
   @Override
   public void save(Bet bet) {
     storage.put(bet.getBetId(), bet);
+    if (bet.isRewardEvaluated()) {
+      undrawn.remove(bet.getBetId());
+    } else {
+      undrawn.add(bet.getBetId());
+    }
+  }
+
+  @Override
+  public void saveAll(List<Bet> bets) {
+    bets.forEach(this::save);
+  }
+
+  @Override
+  public boolean markRewardEvaluated(UUID betId) {
+    AtomicBoolean marked = new AtomicBoolean();
+    storage.computeIfPresent(betId, (id, bet) -> {
+      marked.set(!bet.isRewardEvaluated());
+      bet.setRewardEvaluated(true);
+      undrawn.remove(id);
+      return bet;
+    });
+    return marked.get();
   }
 
   @Override
   public void delete(UUID betId) {
     storage.remove(betId);
+    undrawn.remove(betId);
   }
 }
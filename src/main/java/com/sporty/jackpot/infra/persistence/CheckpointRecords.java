@@ -0,0 +1,136 @@
+package com.sporty.jackpot.infra.persistence;
+
+import static com.sporty.jackpot.infra.persistence.JackpotRecords.readDateTime;
+import static com.sporty.jackpot.infra.persistence.JackpotRecords.readDecimal;
+import static com.sporty.jackpot.infra.persistence.JackpotRecords.readId;
+import static com.sporty.jackpot.infra.persistence.JackpotRecords.write;
+import static com.sporty.jackpot.infra.persistence.JackpotRecords.writeDateTime;
+import static com.sporty.jackpot.infra.persistence.JackpotRecords.writeDecimal;
+import static com.sporty.jackpot.infra.persistence.JackpotRecords.writeId;
+
+import com.sporty.jackpot.domain.model.Bet;
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.model.Reward;
+import com.sporty.jackpot.domain.model.RewardType;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.kafka.common.TopicPartition;
+
+// Records of a state checkpoint: the consumed offsets, then every jackpot, bet, reward and
+// processed bet id. Jackpots are stored as their log record.
+final class CheckpointRecords {
+
+  private static final byte OFFSET = 1;
+  private static final byte JACKPOT = 2;
+  private static final byte BET = 3;
+  private static final byte REWARD = 4;
+  private static final byte PROCESSED_BET = 5;
+
+  private CheckpointRecords() {
+  }
+
+  static byte[] offset(TopicPartition partition, long offset) {
+    return write(out -> {
+      out.writeByte(OFFSET);
+      out.writeUTF(partition.topic());
+      out.writeInt(partition.partition());
+      out.writeLong(offset);
+    });
+  }
+
+  static byte[] jackpot(Jackpot jackpot) {
+    byte[] saved = JackpotRecords.saved(jackpot);
+    byte[] record = new byte[saved.length + 1];
+    record[0] = JACKPOT;
+    System.arraycopy(saved, 0, record, 1, saved.length);
+    return record;
+  }
+
+  static byte[] bet(Bet bet) {
+    return write(out -> {
+      out.writeByte(BET);
+      writeId(out, bet.getBetId());
+      writeId(out, bet.getUserId());
+      writeId(out, bet.getJackpotId());
+      writeDecimal(out, bet.getBetAmount());
+      writeDateTime(out, bet.getCreatedAt());
+      out.writeBoolean(bet.isRewardEvaluated());
+    });
+  }
+
+  static byte[] reward(Reward reward) {
+    return write(out -> {
+      out.writeByte(REWARD);
+      writeId(out, reward.getRewardId());
+      writeId(out, reward.getBetId());
+      writeId(out, reward.getJackpotId());
+      writeId(out, reward.getUserId());
+      out.writeUTF(reward.getRewardType() != null ? reward.getRewardType().name() : "");
+      writeDecimal(out, reward.getAmount());
+      writeDateTime(out, reward.getGrantedAt());
+    });
+  }
+
+  static byte[] processedBet(UUID betId, Instant processedAt) {
+    return write(out -> {
+      out.writeByte(PROCESSED_BET);
+      writeId(out, betId);
+      out.writeLong(processedAt.getEpochSecond());
+      out.writeInt(processedAt.getNano());
+    });
+  }
+
+  // The state read back from a checkpoint, processed bet ids oldest first
+  static final class State {
+
+    final Map<TopicPartition, Long> offsets = new HashMap<>();
+    final Map<UUID, Jackpot> jackpots = new HashMap<>();
+    final Map<UUID, Bet> bets = new HashMap<>();
+    final Map<UUID, Reward> rewards = new HashMap<>();
+    final Map<UUID, Instant> processedBets = new LinkedHashMap<>();
+  }
+
+  static void apply(byte[] record, State state) {
+    if (record[0] == JACKPOT) {
+      JackpotRecords.apply(Arrays.copyOfRange(record, 1, record.length), state.jackpots);
+      return;
+    }
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+      byte type = in.readByte();
+      switch (type) {
+        case OFFSET -> state.offsets.put(new TopicPartition(in.readUTF(), in.readInt()),
+            in.readLong());
+        case BET -> {
+          Bet bet = new Bet(readId(in), readId(in), readId(in), readDecimal(in));
+          bet.setCreatedAt(readDateTime(in));
+          bet.setRewardEvaluated(in.readBoolean());
+          state.bets.put(bet.getBetId(), bet);
+        }
+        case REWARD -> {
+          UUID rewardId = readId(in);
+          UUID betId = readId(in);
+          UUID jackpotId = readId(in);
+          UUID userId = readId(in);
+          String rewardType = in.readUTF();
+          Reward reward = new Reward(rewardId, betId, jackpotId, userId,
+              rewardType.isEmpty() ? null : RewardType.valueOf(rewardType), readDecimal(in),
+              readDateTime(in));
+          state.rewards.put(rewardId, reward);
+        }
+        case PROCESSED_BET -> state.processedBets.put(readId(in),
+            Instant.ofEpochSecond(in.readLong(), in.readInt()));
+        default -> throw new IllegalStateException("Unknown checkpoint record type " + type);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
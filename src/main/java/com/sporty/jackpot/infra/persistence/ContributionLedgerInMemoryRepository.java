@@ -0,0 +1,144 @@
+package com.sporty.jackpot.infra.persistence;
+
+import com.sporty.jackpot.domain.model.Contribution;
+import com.sporty.jackpot.domain.model.PoolSnapshot;
+import com.sporty.jackpot.domain.persistence.ContributionLedgerRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@ConditionalOnExpression("'${jackpot.persistence.mode:memory}' != 'jpa'")
+public class ContributionLedgerInMemoryRepository implements ContributionLedgerRepository {
+
+  private final Map<UUID, Ledger> ledgers = new ConcurrentHashMap<>();
+
+  private final int snapshotInterval;
+  private final int maxRetained;
+
+  public ContributionLedgerInMemoryRepository(
+      @Value("${jackpot.ledger.snapshot-interval:1000}") int snapshotInterval,
+      @Value("${jackpot.ledger.max-retained:10000}") int maxRetained) {
+    this.snapshotInterval = snapshotInterval;
+    this.maxRetained = maxRetained;
+  }
+
+  @Override
+  public void append(UUID jackpotId, Contribution contribution, BigDecimal poolAfter) {
+    ledgers.computeIfAbsent(jackpotId, Ledger::new).append(contribution, poolAfter);
+  }
+
+  @Override
+  public List<Contribution> findByJackpotId(UUID jackpotId, int page, int size) {
+    Ledger ledger = ledgers.get(jackpotId);
+    return ledger == null ? List.of() : ledger.page(page, size);
+  }
+
+  @Override
+  public long count(UUID jackpotId) {
+    Ledger ledger = ledgers.get(jackpotId);
+    return ledger == null ? 0 : ledger.retained();
+  }
+
+  @Override
+  public Optional<PoolSnapshot> findLatestSnapshot(UUID jackpotId) {
+    Ledger ledger = ledgers.get(jackpotId);
+    return ledger == null ? Optional.empty() : Optional.ofNullable(ledger.latestSnapshot());
+  }
+
+  @Override
+  public int compact(UUID jackpotId) {
+    Ledger ledger = ledgers.get(jackpotId);
+    return ledger == null ? 0 : ledger.compact();
+  }
+
+  @Override
+  public void remove(UUID jackpotId) {
+    ledgers.remove(jackpotId);
+  }
+
+  // Guarded by a ReentrantLock rather than synchronized, a virtual thread waiting for a monitor
+  // pins its carrier thread on Java 21
+  private class Ledger {
+
+    private final UUID jackpotId;
+    private final List<Contribution> entries = new ArrayList<>();
+    private final Lock lock = new ReentrantLock();
+    private long compacted;
+    private PoolSnapshot latestSnapshot;
+
+    Ledger(UUID jackpotId) {
+      this.jackpotId = jackpotId;
+    }
+
+    void append(Contribution contribution, BigDecimal poolAfter) {
+      lock.lock();
+      try {
+        entries.add(contribution);
+        long sequence = compacted + entries.size();
+        if (sequence % snapshotInterval == 0) {
+          latestSnapshot = new PoolSnapshot(jackpotId, sequence, poolAfter, LocalDateTime.now());
+        }
+        if (entries.size() > maxRetained) {
+          compact();
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    List<Contribution> page(int page, int size) {
+      lock.lock();
+      try {
+        int from = Math.min(page * size, entries.size());
+        int to = Math.min(from + size, entries.size());
+        return List.copyOf(entries.subList(from, to));
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    long retained() {
+      lock.lock();
+      try {
+        return entries.size();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    PoolSnapshot latestSnapshot() {
+      lock.lock();
+      try {
+        return latestSnapshot;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    int compact() {
+      lock.lock();
+      try {
+        if (latestSnapshot == null) {
+          return 0;
+        }
+        int covered = (int) (latestSnapshot.getSequence() - compacted);
+        entries.subList(0, covered).clear();
+        compacted += covered;
+        return covered;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.sporty.jackpot.infra.persistence;
+
+import com.sporty.jackpot.domain.model.Jackpot;
+import java.util.UUID;
+
+// Told about every jackpot change while the jackpot's lock is held, so the changes of a jackpot
+// are reported in the order they were applied
+interface JackpotChangeListener {
+
+  JackpotChangeListener NONE = new JackpotChangeListener() {
+    @Override
+    public void saved(Jackpot jackpot) {
+    }
+
+    @Override
+    public void deleted(UUID jackpotId) {
+    }
+  };
+
+  // Created, updated or its pool claimed
+  void saved(Jackpot jackpot);
+
+  void deleted(UUID jackpotId);
+}
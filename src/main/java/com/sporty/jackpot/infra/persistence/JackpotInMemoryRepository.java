@@ -2,53 +2,88 @@ package com.sporty.jackpot.infra.persistence;
 
 import com.sporty.jackpot.domain.model.ContributionType;
 import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.model.JackpotRules;
 import com.sporty.jackpot.domain.model.RewardType;
 import com.sporty.jackpot.domain.persistence.JackpotRepository;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 @Repository
+@ConditionalOnProperty(name = "jackpot.persistence.mode", havingValue = "memory",
+    matchIfMissing = true)
 public class JackpotInMemoryRepository implements JackpotRepository {
 
-  private final Map<UUID, Jackpot> storage = new HashMap<>();
+  private static final int LOCK_STRIPES = 64;
+
+  private final Map<UUID, Jackpot> storage = new ConcurrentHashMap<>();
+  // Ordered ids for the cursor listings, lookups stay on the hash map
+  private final NavigableSet<UUID> ids = new ConcurrentSkipListSet<>();
+  // Starts from the boot time in the high bits, the version is the listing's ETag and a restart
+  // must not hand out a version again for other contents. Holds while a run makes fewer than 2^20
+  // changes per millisecond of uptime.
+  private final AtomicLong version = new AtomicLong(System.currentTimeMillis() << 20);
+  private final Lock[] locks = new Lock[LOCK_STRIPES];
+  private final JackpotChangeListener listener;
 
   public JackpotInMemoryRepository() {
+    this(seedJackpots(), JackpotChangeListener.NONE);
+  }
+
+  // Starts from the given jackpots, e.g. recovered ones, and reports every change to the listener
+  JackpotInMemoryRepository(Collection<Jackpot> jackpots, JackpotChangeListener listener) {
+    for (int i = 0; i < LOCK_STRIPES; i++) {
+      locks[i] = new ReentrantLock();
+    }
+    this.listener = listener;
+    jackpots.forEach(jackpot -> storage.put(jackpot.getJackpotId(), jackpot));
+    ids.addAll(storage.keySet());
+  }
+
+  public static List<Jackpot> seedJackpots() {
     UUID jackpotId1 = UUID.fromString("73cada80-12e4-46b7-a0cb-a5eb99d4cafa");
-    storage.put(jackpotId1, new Jackpot(
-        jackpotId1,
+    UUID jackpotId2 = UUID.fromString("38b36029-44ea-4b38-b8cf-db64200dec3d");
+    return List.of(
+        new Jackpot(
+            jackpotId1,
             "Super Fixed Jackpot",
             BigDecimal.valueOf(1000.0),
             BigDecimal.valueOf(1000.0),
             LocalDateTime.now(),
             ContributionType.FIXED,
             RewardType.FIXED,
-            new ArrayList<>()
-        )
-    );
-    UUID jackpotId2 = UUID.fromString("38b36029-44ea-4b38-b8cf-db64200dec3d");
-    storage.put(jackpotId2, new Jackpot(
-        jackpotId2,
-        "Super Variable Jackpot",
-        BigDecimal.valueOf(2000.0),
-        BigDecimal.valueOf(2000.0),
-        LocalDateTime.now(),
-        ContributionType.VARIABLE,
-        RewardType.VARIABLE,
-        new ArrayList<>()
-    ));
-
+            JackpotRules.DEFAULTS
+        ),
+        new Jackpot(
+            jackpotId2,
+            "Super Variable Jackpot",
+            BigDecimal.valueOf(2000.0),
+            BigDecimal.valueOf(2000.0),
+            LocalDateTime.now(),
+            ContributionType.VARIABLE,
+            RewardType.VARIABLE,
+            JackpotRules.DEFAULTS
+        ));
   }
 
   @Override
   public Optional<Jackpot> findById(UUID jackpotId) {
-    return storage.containsKey(jackpotId) ? Optional.of(storage.get(jackpotId)) : Optional.empty();
+    return Optional.ofNullable(storage.get(jackpotId));
   }
 
   @Override
@@ -56,13 +91,89 @@ public class JackpotInMemoryRepository implements JackpotRepository {
     return storage.values().stream().toList();
   }
 
+  @Override
+  public Stream<Jackpot> findAllAfter(UUID afterId) {
+    NavigableSet<UUID> from = afterId != null ? ids.tailSet(afterId, false) : ids;
+    // A jackpot deleted after its id was read is skipped
+    return from.stream()
+        .map(storage::get)
+        .filter(Objects::nonNull);
+  }
+
+  @Override
+  public long version() {
+    return version.get();
+  }
+
   @Override
   public void save(Jackpot jackpot) {
-    storage.put(jackpot.getJackpotId(), jackpot);
+    Lock lock = lockFor(jackpot.getJackpotId());
+    lock.lock();
+    try {
+      storage.put(jackpot.getJackpotId(), jackpot);
+      ids.add(jackpot.getJackpotId());
+      version.incrementAndGet();
+      listener.saved(jackpot);
+    } finally {
+      lock.unlock();
+    }
   }
 
   @Override
   public void delete(UUID jackpotId) {
-    storage.remove(jackpotId);
+    Lock lock = lockFor(jackpotId);
+    lock.lock();
+    try {
+      if (storage.remove(jackpotId) != null) {
+        ids.remove(jackpotId);
+        version.incrementAndGet();
+        listener.deleted(jackpotId);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public Optional<Jackpot> update(UUID jackpotId, Consumer<Jackpot> updater) {
+    Lock lock = lockFor(jackpotId);
+    lock.lock();
+    try {
+      Jackpot jackpot = storage.get(jackpotId);
+      if (jackpot == null) {
+        return Optional.empty();
+      }
+      updater.accept(jackpot);
+      version.incrementAndGet();
+      listener.saved(jackpot);
+      return Optional.of(jackpot);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public Optional<BigDecimal> addToPool(UUID jackpotId, BigDecimal amount,
+      Consumer<BigDecimal> recorder) {
+    Lock lock = lockFor(jackpotId);
+    lock.lock();
+    try {
+      Jackpot jackpot = storage.get(jackpotId);
+      if (jackpot == null) {
+        return Optional.empty();
+      }
+      BigDecimal poolAfter = jackpot.getCurrentPool().add(amount);
+      recorder.accept(poolAfter);
+      jackpot.setCurrentPool(poolAfter);
+      version.incrementAndGet();
+      listener.saved(jackpot);
+      return Optional.of(poolAfter);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Lock lockFor(UUID jackpotId) {
+    return locks[Math.floorMod(jackpotId.hashCode(), LOCK_STRIPES)];
   }
 }
@@ -0,0 +1,183 @@
+package com.sporty.jackpot.infra.persistence;
+
+import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.model.JackpotRules;
+import com.sporty.jackpot.domain.model.RewardType;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+// Log and snapshot records of the jackpot state. A record carries the whole jackpot, not the
+// change, so replaying a record that a snapshot already reflects does no harm.
+final class JackpotRecords {
+
+  private static final byte SAVED = 1;
+  private static final byte DELETED = 2;
+  private static final byte APPLIED = 3;
+  private static final byte PROCESSED = 4;
+
+  private JackpotRecords() {
+  }
+
+  static byte[] saved(Jackpot jackpot) {
+    return write(out -> {
+      out.writeByte(SAVED);
+      writeJackpot(out, jackpot);
+    });
+  }
+
+  // The jackpot together with the bets the change applied, a single record so the bets are
+  // recovered as processed exactly when their contributions are in the recovered pool
+  static byte[] applied(Jackpot jackpot, List<UUID> betIds, Instant processedAt) {
+    return write(out -> {
+      out.writeByte(APPLIED);
+      writeJackpot(out, jackpot);
+      out.writeLong(processedAt.getEpochSecond());
+      out.writeInt(processedAt.getNano());
+      out.writeInt(betIds.size());
+      for (UUID betId : betIds) {
+        writeId(out, betId);
+      }
+    });
+  }
+
+  static byte[] processed(UUID betId, Instant processedAt) {
+    return write(out -> {
+      out.writeByte(PROCESSED);
+      writeId(out, betId);
+      out.writeLong(processedAt.getEpochSecond());
+      out.writeInt(processedAt.getNano());
+    });
+  }
+
+  static byte[] deleted(UUID jackpotId) {
+    return write(out -> {
+      out.writeByte(DELETED);
+      writeId(out, jackpotId);
+    });
+  }
+
+  static void apply(byte[] record, Map<UUID, Jackpot> jackpots) {
+    apply(record, jackpots, (betId, processedAt) -> { });
+  }
+
+  // Applies the record to the recovered state, processed bets are reported in log order
+  static void apply(byte[] record, Map<UUID, Jackpot> jackpots,
+      BiConsumer<UUID, Instant> processedBets) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+      byte type = in.readByte();
+      UUID id = readId(in);
+      switch (type) {
+        case SAVED -> jackpots.put(id, readJackpot(id, in));
+        case DELETED -> jackpots.remove(id);
+        case APPLIED -> {
+          jackpots.put(id, readJackpot(id, in));
+          Instant processedAt = Instant.ofEpochSecond(in.readLong(), in.readInt());
+          int count = in.readInt();
+          for (int i = 0; i < count; i++) {
+            processedBets.accept(readId(in), processedAt);
+          }
+        }
+        case PROCESSED -> processedBets.accept(id,
+            Instant.ofEpochSecond(in.readLong(), in.readInt()));
+        default -> throw new IllegalStateException("Unknown jackpot record type " + type);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void writeJackpot(DataOutputStream out, Jackpot jackpot) throws IOException {
+    writeId(out, jackpot.getJackpotId());
+    out.writeUTF(jackpot.getName());
+    writeDecimal(out, jackpot.getInitialPool());
+    writeDecimal(out, jackpot.getCurrentPool());
+    writeDateTime(out, jackpot.getCreatedAt());
+    out.writeUTF(jackpot.getContributionType().name());
+    out.writeUTF(jackpot.getRewardType().name());
+    JackpotRules rules = jackpot.getRules();
+    writeDecimal(out, rules.fixedContributionRate());
+    writeDecimal(out, rules.variableContributionRate());
+    writeDecimal(out, rules.contributionDecreaseRate());
+    writeDecimal(out, rules.minContributionRate());
+    writeDecimal(out, rules.fixedRewardChance());
+    writeDecimal(out, rules.variableRewardChance());
+    writeDecimal(out, rules.rewardIncreaseRate());
+    writeDecimal(out, rules.poolLimitMultiplier());
+  }
+
+  private static Jackpot readJackpot(UUID jackpotId, DataInputStream in) throws IOException {
+    String name = in.readUTF();
+    BigDecimal initialPool = readDecimal(in);
+    BigDecimal currentPool = readDecimal(in);
+    LocalDateTime createdAt = readDateTime(in);
+    ContributionType contributionType = ContributionType.valueOf(in.readUTF());
+    RewardType rewardType = RewardType.valueOf(in.readUTF());
+    JackpotRules rules = new JackpotRules(readDecimal(in), readDecimal(in), readDecimal(in),
+        readDecimal(in), readDecimal(in), readDecimal(in), readDecimal(in), readDecimal(in));
+    return new Jackpot(jackpotId, name, initialPool, currentPool, createdAt, contributionType,
+        rewardType, rules);
+  }
+
+  static void writeId(DataOutputStream out, UUID id) throws IOException {
+    out.writeLong(id.getMostSignificantBits());
+    out.writeLong(id.getLeastSignificantBits());
+  }
+
+  static UUID readId(DataInputStream in) throws IOException {
+    return new UUID(in.readLong(), in.readLong());
+  }
+
+  static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+    out.writeLong(value.toLocalDate().toEpochDay());
+    out.writeLong(value.toLocalTime().toNanoOfDay());
+  }
+
+  static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+    return LocalDateTime.of(LocalDate.ofEpochDay(in.readLong()),
+        LocalTime.ofNanoOfDay(in.readLong()));
+  }
+
+  static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+    byte[] unscaled = value.unscaledValue().toByteArray();
+    out.writeInt(value.scale());
+    out.writeShort(unscaled.length);
+    out.write(unscaled);
+  }
+
+  static BigDecimal readDecimal(DataInputStream in) throws IOException {
+    int scale = in.readInt();
+    byte[] unscaled = new byte[in.readUnsignedShort()];
+    in.readFully(unscaled);
+    return new BigDecimal(new BigInteger(unscaled), scale);
+  }
+
+  interface RecordWriter {
+
+    void write(DataOutputStream out) throws IOException;
+  }
+
+  static byte[] write(RecordWriter writer) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      writer.write(out);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+}
@@ -0,0 +1,249 @@
+package com.sporty.jackpot.infra.persistence;
+
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.persistence.JackpotRepository;
+import com.sporty.jackpot.infra.persistence.wal.SnapshotFile;
+import com.sporty.jackpot.infra.persistence.wal.WalPosition;
+import com.sporty.jackpot.infra.persistence.wal.WriteAheadLog;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.unit.DataSize;
+
+// The in-memory repository, with every change appended to a write-ahead log and the whole state
+// written to a snapshot every snapshot-interval changes. On start the snapshot is loaded and only
+// the log written after it is replayed, so recovery time is bounded by the snapshot interval.
+// Writes return once their record is on disk, concurrent writes share a single fsync. The processed
+// bet index is kept in the same log, a bet marked during a jackpot change is written in that
+// change's record, so after a restart a bet counts as processed exactly when its contribution is
+// in the recovered pool.
+@Repository
+@ConditionalOnProperty(name = "jackpot.persistence.mode", havingValue = "wal")
+public class JackpotWalRepository implements JackpotRepository, AutoCloseable {
+
+  private final Logger logger = LoggerFactory.getLogger(JackpotWalRepository.class);
+
+  private final WriteAheadLog log;
+  private final SnapshotFile snapshotFile;
+  private final long snapshotInterval;
+  private final JackpotInMemoryRepository jackpots;
+  private final ProcessedBetInMemoryRepository processedBets;
+  // The bets marked processed by the change running on this thread, written with its record
+  private final ThreadLocal<List<UUID>> appliedBets = new ThreadLocal<>();
+
+  private final AtomicLong changesSinceSnapshot = new AtomicLong();
+  private final AtomicBoolean snapshotRunning = new AtomicBoolean();
+  private final ExecutorService snapshotExecutor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "jackpot-snapshot");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  public JackpotWalRepository(
+      @Value("${jackpot.persistence.wal.directory:data/jackpots}") Path directory,
+      @Value("${jackpot.persistence.wal.segment-size:16MB}") DataSize segmentSize,
+      @Value("${jackpot.persistence.wal.fsync:true}") boolean fsync,
+      @Value("${jackpot.persistence.wal.snapshot-interval:100000}") long snapshotInterval,
+      @Value("${jackpot.dedup.retention:24h}") Duration dedupRetention,
+      @Value("${jackpot.dedup.max-entries:1000000}") int dedupMaxEntries) {
+    this.log = new WriteAheadLog(directory, (int) segmentSize.toBytes(), fsync);
+    this.snapshotFile = new SnapshotFile(directory.resolve("jackpots.snapshot"));
+    this.snapshotInterval = snapshotInterval;
+    this.processedBets = new ProcessedBetInMemoryRepository(dedupRetention, dedupMaxEntries);
+
+    long started = System.nanoTime();
+    Map<UUID, Jackpot> recovered = new LinkedHashMap<>();
+    Optional<SnapshotFile.Snapshot> snapshot = snapshotFile.read();
+    snapshot.ifPresent(s -> s.records().forEach(
+        record -> JackpotRecords.apply(record, recovered, processedBets::restore)));
+    AtomicLong replayed = new AtomicLong();
+    log.recover(snapshot.map(SnapshotFile.Snapshot::position).orElse(WalPosition.START),
+        record -> {
+          JackpotRecords.apply(record, recovered, processedBets::restore);
+          replayed.incrementAndGet();
+        });
+
+    boolean fresh = snapshot.isEmpty() && replayed.get() == 0;
+    Collection<Jackpot> initial = fresh ? JackpotInMemoryRepository.seedJackpots()
+        : recovered.values();
+    this.jackpots = new JackpotInMemoryRepository(initial, new JackpotChangeListener() {
+      @Override
+      public void saved(Jackpot jackpot) {
+        List<UUID> betIds = appliedBets.get();
+        if (betIds == null || betIds.isEmpty()) {
+          append(JackpotRecords.saved(jackpot));
+        } else {
+          append(JackpotRecords.applied(jackpot, betIds, Instant.now()));
+          betIds.clear();
+        }
+      }
+
+      @Override
+      public void deleted(UUID jackpotId) {
+        append(JackpotRecords.deleted(jackpotId));
+      }
+    });
+    if (fresh) {
+      initial.forEach(jackpot -> append(JackpotRecords.saved(jackpot)));
+      log.sync(log.lastAppended());
+    }
+    logger.info("Recovered {} jackpots from {} in {} ms, {} log records replayed", initial.size(),
+        directory, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), replayed.get());
+  }
+
+  @Override
+  public Optional<Jackpot> findById(UUID jackpotId) {
+    return jackpots.findById(jackpotId);
+  }
+
+  @Override
+  public List<Jackpot> findAll() {
+    return jackpots.findAll();
+  }
+
+  @Override
+  public Stream<Jackpot> findAllAfter(UUID afterId) {
+    return jackpots.findAllAfter(afterId);
+  }
+
+  @Override
+  public long version() {
+    return jackpots.version();
+  }
+
+  @Override
+  public void save(Jackpot jackpot) {
+    jackpots.save(jackpot);
+    sync();
+  }
+
+  @Override
+  public void delete(UUID jackpotId) {
+    jackpots.delete(jackpotId);
+    sync();
+  }
+
+  @Override
+  public Optional<Jackpot> update(UUID jackpotId, Consumer<Jackpot> updater) {
+    appliedBets.set(new ArrayList<>());
+    Optional<Jackpot> updated;
+    try {
+      updated = jackpots.update(jackpotId, updater);
+    } finally {
+      appliedBets.remove();
+    }
+    sync();
+    return updated;
+  }
+
+  @Override
+  public Optional<BigDecimal> addToPool(UUID jackpotId, BigDecimal amount,
+      Consumer<BigDecimal> recorder) {
+    appliedBets.set(new ArrayList<>());
+    Optional<BigDecimal> poolAfter;
+    try {
+      poolAfter = jackpots.addToPool(jackpotId, amount, recorder);
+    } finally {
+      appliedBets.remove();
+    }
+    sync();
+    return poolAfter;
+  }
+
+  // Marked during a jackpot change, the bet is written with the change's record and synced with
+  // it. Marked on its own, it gets a record of its own.
+  boolean markProcessed(UUID betId) {
+    if (!processedBets.markProcessed(betId)) {
+      return false;
+    }
+    List<UUID> betIds = appliedBets.get();
+    if (betIds != null) {
+      betIds.add(betId);
+    } else {
+      append(JackpotRecords.processed(betId, Instant.now()));
+      sync();
+    }
+    return true;
+  }
+
+  boolean isProcessed(UUID betId) {
+    return processedBets.isProcessed(betId);
+  }
+
+  Set<UUID> findProcessed(Collection<UUID> betIds) {
+    return processedBets.findProcessed(betIds);
+  }
+
+  // Writes the snapshot right away and drops the log segments it covers
+  public void snapshot() {
+    // Records are full jackpot states, so the jackpots read after taking the position reflect at
+    // least every record before it, and replaying the records after it again is harmless
+    WalPosition position = log.position();
+    List<byte[]> records = new ArrayList<>();
+    jackpots.findAllAfter(null).forEach(jackpot -> records.add(JackpotRecords.saved(jackpot)));
+    int jackpotCount = records.size();
+    processedBets.forEach(
+        (betId, processedAt) -> records.add(JackpotRecords.processed(betId, processedAt)));
+    snapshotFile.write(position, records);
+    log.deleteSegmentsBefore(position.segment());
+    logger.info("Wrote snapshot of {} jackpots and {} processed bets at {}", jackpotCount,
+        records.size() - jackpotCount, position);
+  }
+
+  // A snapshot on shutdown keeps the next start from replaying the log
+  @Override
+  public void close() {
+    snapshotExecutor.shutdown();
+    try {
+      snapshotExecutor.awaitTermination(30, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    snapshot();
+    log.close();
+  }
+
+  // Runs under the jackpot's lock, so the records of a jackpot are in the order of its changes
+  private void append(byte[] record) {
+    log.append(record);
+    if (changesSinceSnapshot.incrementAndGet() >= snapshotInterval
+        && !snapshotExecutor.isShutdown() && snapshotRunning.compareAndSet(false, true)) {
+      changesSinceSnapshot.set(0);
+      snapshotExecutor.execute(() -> {
+        try {
+          snapshot();
+        } catch (RuntimeException e) {
+          logger.error("Failed to write the jackpot snapshot", e);
+        } finally {
+          snapshotRunning.set(false);
+        }
+      });
+    }
+  }
+
+  // Outside the jackpot's lock, other jackpots keep changing while the caller waits for the disk
+  private void sync() {
+    log.sync(log.lastAppended());
+  }
+}
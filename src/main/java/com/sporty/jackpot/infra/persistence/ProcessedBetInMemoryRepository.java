@@ -0,0 +1,109 @@
+package com.sporty.jackpot.infra.persistence;
+
+import com.sporty.jackpot.domain.persistence.ProcessedBetRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+// Kept in the heap, only the state checkpoint of the memory mode carries it across restarts. The
+// wal mode keeps it in the jackpot log, see ProcessedBetWalRepository.
+@Repository
+@ConditionalOnProperty(name = "jackpot.persistence.mode", havingValue = "memory",
+    matchIfMissing = true)
+public class ProcessedBetInMemoryRepository implements ProcessedBetRepository {
+
+  private final Map<UUID, Instant> processed = new ConcurrentHashMap<>();
+  // Insertion order, used to evict the oldest entries in O(1) per entry
+  private final Queue<ProcessedBet> insertionOrder = new ConcurrentLinkedQueue<>();
+  private final ReentrantLock evictionLock = new ReentrantLock();
+
+  private final Duration retention;
+  private final int maxEntries;
+  private final Clock clock;
+
+  @Autowired
+  public ProcessedBetInMemoryRepository(
+      @Value("${jackpot.dedup.retention:24h}") Duration retention,
+      @Value("${jackpot.dedup.max-entries:1000000}") int maxEntries) {
+    this(retention, maxEntries, Clock.systemUTC());
+  }
+
+  ProcessedBetInMemoryRepository(Duration retention, int maxEntries, Clock clock) {
+    this.retention = retention;
+    this.maxEntries = maxEntries;
+    this.clock = clock;
+  }
+
+  @Override
+  public boolean markProcessed(UUID betId) {
+    Instant now = clock.instant();
+    evict(now);
+    if (processed.putIfAbsent(betId, now) != null) {
+      return false;
+    }
+    insertionOrder.add(new ProcessedBet(betId, now));
+    return true;
+  }
+
+  @Override
+  public boolean isProcessed(UUID betId) {
+    return processed.containsKey(betId);
+  }
+
+  @Override
+  public Set<UUID> findProcessed(Collection<UUID> betIds) {
+    return betIds.stream().filter(processed::containsKey).collect(Collectors.toSet());
+  }
+
+  // Entries still retained, oldest first
+  public void forEach(BiConsumer<UUID, Instant> action) {
+    for (ProcessedBet entry : insertionOrder) {
+      if (entry.processedAt().equals(processed.get(entry.betId()))) {
+        action.accept(entry.betId(), entry.processedAt());
+      }
+    }
+  }
+
+  // Records a bet processed at the given time, entries are expected oldest first
+  public void restore(UUID betId, Instant processedAt) {
+    if (processed.putIfAbsent(betId, processedAt) == null) {
+      insertionOrder.add(new ProcessedBet(betId, processedAt));
+    }
+  }
+
+  private void evict(Instant now) {
+    // A single evictor at a time, the rest of the callers skip eviction instead of waiting
+    if (!evictionLock.tryLock()) {
+      return;
+    }
+    try {
+      Instant cutoff = now.minus(retention);
+      ProcessedBet oldest;
+      while ((oldest = insertionOrder.peek()) != null
+          && (oldest.processedAt().isBefore(cutoff) || processed.size() >= maxEntries)) {
+        insertionOrder.poll();
+        processed.remove(oldest.betId(), oldest.processedAt());
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private record ProcessedBet(UUID betId, Instant processedAt) {
+
+  }
+}
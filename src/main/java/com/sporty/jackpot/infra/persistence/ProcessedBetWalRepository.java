@@ -0,0 +1,36 @@
+package com.sporty.jackpot.infra.persistence;
+
+import com.sporty.jackpot.domain.persistence.ProcessedBetRepository;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+// Kept in the jackpot log, so the bets applied to the recovered pools are still known as processed
+// after a restart and a redelivery of them is dropped
+@Repository
+@ConditionalOnProperty(name = "jackpot.persistence.mode", havingValue = "wal")
+public class ProcessedBetWalRepository implements ProcessedBetRepository {
+
+  private final JackpotWalRepository jackpotRepository;
+
+  public ProcessedBetWalRepository(JackpotWalRepository jackpotRepository) {
+    this.jackpotRepository = jackpotRepository;
+  }
+
+  @Override
+  public boolean markProcessed(UUID betId) {
+    return jackpotRepository.markProcessed(betId);
+  }
+
+  @Override
+  public boolean isProcessed(UUID betId) {
+    return jackpotRepository.isProcessed(betId);
+  }
+
+  @Override
+  public Set<UUID> findProcessed(Collection<UUID> betIds) {
+    return jackpotRepository.findProcessed(betIds);
+  }
+}
@@ -2,30 +2,99 @@ package com.sporty.jackpot.infra.persistence;
 
 import com.sporty.jackpot.domain.model.Reward;
 import com.sporty.jackpot.domain.persistence.RewardRepository;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Repository;
 
 @Repository
+@ConditionalOnExpression("'${jackpot.persistence.mode:memory}' != 'jpa'")
 public class RewardInMemoryRepository implements RewardRepository {
 
-  private final Map<UUID, Reward> storage = new HashMap<>();
+  private final Map<UUID, Reward> storage = new ConcurrentHashMap<>();
+  // Secondary indexes holding reward ids, rewards are rare so the per-user and per-jackpot lists
+  // are copy-on-write and read without locking
+  private final Map<UUID, UUID> rewardIdByBetId = new ConcurrentHashMap<>();
+  private final Map<UUID, List<UUID>> rewardIdsByUserId = new ConcurrentHashMap<>();
+  private final Map<UUID, List<UUID>> rewardIdsByJackpotId = new ConcurrentHashMap<>();
 
   @Override
   public void save(Reward reward) {
-     storage.put(reward.getRewardId(), reward);
+    // The indexes are written once, when the reward id is first seen, so a re-saved reward is not
+    // listed twice
+    storage.compute(reward.getRewardId(), (rewardId, existing) -> {
+      if (existing == null) {
+        index(reward);
+      }
+      return reward;
+    });
   }
 
   @Override
-  public Optional<Reward> findById(UUID betId) {
-    return storage.containsKey(betId) ? Optional.of(storage.get(betId)) : Optional.empty();
+  public Optional<Reward> findById(UUID rewardId) {
+    return Optional.ofNullable(storage.get(rewardId));
+  }
+
+  @Override
+  public Optional<Reward> findByBetId(UUID betId) {
+    UUID rewardId = rewardIdByBetId.get(betId);
+    return rewardId != null ? findById(rewardId) : Optional.empty();
+  }
+
+  @Override
+  public List<Reward> findByUserId(UUID userId, int page, int size) {
+    return page(rewardIdsByUserId.get(userId), page, size);
+  }
+
+  @Override
+  public List<Reward> findByJackpotId(UUID jackpotId, int page, int size) {
+    return page(rewardIdsByJackpotId.get(jackpotId), page, size);
   }
 
   @Override
   public List<Reward> findAll(){
     return storage.values().stream().toList();
   }
+
+  private void index(Reward reward) {
+    if (reward.getBetId() != null) {
+      rewardIdByBetId.put(reward.getBetId(), reward.getRewardId());
+    }
+    if (reward.getUserId() != null) {
+      rewardIdsByUserId.computeIfAbsent(reward.getUserId(), id -> new CopyOnWriteArrayList<>())
+          .add(reward.getRewardId());
+    }
+    if (reward.getJackpotId() != null) {
+      rewardIdsByJackpotId.computeIfAbsent(reward.getJackpotId(),
+          id -> new CopyOnWriteArrayList<>()).add(reward.getRewardId());
+    }
+  }
+
+  // Reads only the requested page of the index, newest entries first. Index lists are only
+  // appended to, so positions below the size read first stay valid.
+  private List<Reward> page(List<UUID> rewardIds, int page, int size) {
+    if (rewardIds == null || page < 0 || size <= 0) {
+      return List.of();
+    }
+    long skip = (long) page * size;
+    int total = rewardIds.size();
+    if (skip >= total) {
+      return List.of();
+    }
+    int from = total - 1 - (int) skip;
+    int to = Math.max(from - size, -1);
+    List<Reward> rewards = new ArrayList<>(from - to);
+    for (int i = from; i > to; i--) {
+      Reward reward = storage.get(rewardIds.get(i));
+      if (reward != null) {
+        rewards.add(reward);
+      }
+    }
+    return rewards;
+  }
 }
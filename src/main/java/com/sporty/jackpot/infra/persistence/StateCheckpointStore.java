@@ -0,0 +1,99 @@
+package com.sporty.jackpot.infra.persistence;
+
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.persistence.JackpotRepository;
+import com.sporty.jackpot.domain.persistence.RewardRepository;
+import com.sporty.jackpot.infra.persistence.wal.SnapshotFile;
+import com.sporty.jackpot.infra.persistence.wal.WalPosition;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Writes the jackpots, bets, rewards and processed bet ids along with the consumed offsets they
+// reflect, and loads them back into the repositories on start. Only the bets not drawn yet are
+// written, a drawn bet's decision is final and a winning one's reward is written, so a checkpoint
+// grows with the pending bets and the retained processed ids, not with the bet history. The
+// contribution ledger is not part of it, it keeps the contributions applied since the start. Only
+// the in-memory mode uses it, the wal and jpa modes recover newer jackpots than a checkpoint holds.
+@Component
+@ConditionalOnProperty(name = "jackpot.persistence.mode", havingValue = "memory",
+    matchIfMissing = true)
+public class StateCheckpointStore {
+
+  private final Logger logger = LoggerFactory.getLogger(StateCheckpointStore.class);
+
+  private final JackpotRepository jackpotRepository;
+  private final BetRepositoryInMemory betRepository;
+  private final RewardRepository rewardRepository;
+  private final ProcessedBetInMemoryRepository processedBetRepository;
+  private final SnapshotFile checkpointFile;
+
+  // The state encoded in memory, ready to be written
+  public record Checkpoint(Map<TopicPartition, Long> offsets, List<byte[]> records) {
+
+  }
+
+  public StateCheckpointStore(JackpotRepository jackpotRepository,
+      BetRepositoryInMemory betRepository,
+      RewardRepository rewardRepository,
+      ProcessedBetInMemoryRepository processedBetRepository,
+      @Value("${jackpot.checkpoint.directory:data/checkpoint}") Path directory) {
+    this.jackpotRepository = jackpotRepository;
+    this.betRepository = betRepository;
+    this.rewardRepository = rewardRepository;
+    this.processedBetRepository = processedBetRepository;
+    this.checkpointFile = new SnapshotFile(directory.resolve("state.checkpoint"));
+  }
+
+  // The caller keeps the state from changing while it is read, see StateBarrier
+  public Checkpoint capture(Map<TopicPartition, Long> offsets) {
+    List<byte[]> records = new ArrayList<>();
+    offsets.forEach((partition, offset) -> records.add(CheckpointRecords.offset(partition, offset)));
+    jackpotRepository.findAllAfter(null).map(CheckpointRecords::jackpot).forEach(records::add);
+    betRepository.forEachUndrawn(bet -> records.add(CheckpointRecords.bet(bet)));
+    rewardRepository.findAll().forEach(reward -> records.add(CheckpointRecords.reward(reward)));
+    processedBetRepository.forEach(
+        (betId, processedAt) -> records.add(CheckpointRecords.processedBet(betId, processedAt)));
+    return new Checkpoint(offsets, records);
+  }
+
+  public void write(Checkpoint checkpoint) {
+    // A checkpoint has no log to resume, the position is not used
+    checkpointFile.write(WalPosition.START, checkpoint.records());
+    logger.info("Wrote state checkpoint of {} records at offsets {}", checkpoint.records().size(),
+        checkpoint.offsets());
+  }
+
+  // Loads the latest checkpoint into the repositories and returns the offsets it reflects, empty
+  // when there is none. The jackpots are replaced by the checkpoint's, so seeded jackpots deleted
+  // before it stay deleted.
+  public Optional<Map<TopicPartition, Long>> restore() {
+    return checkpointFile.read().map(checkpoint -> {
+      CheckpointRecords.State state = new CheckpointRecords.State();
+      checkpoint.records().forEach(record -> CheckpointRecords.apply(record, state));
+      for (Jackpot jackpot : jackpotRepository.findAll()) {
+        if (!state.jackpots.containsKey(jackpot.getJackpotId())) {
+          jackpotRepository.delete(jackpot.getJackpotId());
+        }
+      }
+      for (Jackpot jackpot : state.jackpots.values()) {
+        jackpotRepository.save(jackpot);
+      }
+      state.bets.values().forEach(betRepository::save);
+      state.rewards.values().forEach(rewardRepository::save);
+      state.processedBets.forEach(processedBetRepository::restore);
+      logger.info("Restored {} jackpots, {} bets and {} rewards from the state checkpoint at "
+              + "offsets {}", state.jackpots.size(), state.bets.size(), state.rewards.size(),
+          state.offsets);
+      return state.offsets;
+    });
+  }
+}
@@ -0,0 +1,77 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import com.sporty.jackpot.domain.model.Bet;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+// Ids are assigned by the producer, so the entity says itself whether it is new. New bets are
+// persisted without being looked up first, which lets their inserts go out in JDBC batches.
+@Entity
+@Table(name = "bet", indexes = @Index(columnList = "jackpotId"))
+@Getter
+@Setter
+@NoArgsConstructor
+class BetEntity implements Persistable<UUID> {
+
+  @Id
+  private UUID betId;
+  private UUID userId;
+  private UUID jackpotId;
+  @Column(precision = Decimals.PRECISION, scale = Decimals.SCALE)
+  private BigDecimal betAmount;
+  private LocalDateTime createdAt;
+  private boolean rewardEvaluated;
+  @Transient
+  private boolean stored;
+
+  static BetEntity from(Bet bet) {
+    BetEntity entity = new BetEntity();
+    entity.setBetId(bet.getBetId());
+    entity.apply(bet);
+    return entity;
+  }
+
+  void apply(Bet bet) {
+    userId = bet.getUserId();
+    jackpotId = bet.getJackpotId();
+    betAmount = bet.getBetAmount();
+    createdAt = bet.getCreatedAt();
+    rewardEvaluated = bet.isRewardEvaluated();
+  }
+
+  Bet toBet() {
+    Bet bet = new Bet(betId, userId, jackpotId, Decimals.money(betAmount));
+    bet.setCreatedAt(createdAt);
+    bet.setRewardEvaluated(rewardEvaluated);
+    return bet;
+  }
+
+  @Override
+  public UUID getId() {
+    return betId;
+  }
+
+  @Override
+  public boolean isNew() {
+    return !stored;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markStored() {
+    stored = true;
+  }
+}
@@ -0,0 +1,16 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+interface BetEntityRepository extends JpaRepository<BetEntity, UUID> {
+
+  // The row lock it takes makes a concurrent draw of the bet wait for this one to commit, and
+  // then find the bet already flagged
+  @Modifying
+  @Query("update BetEntity b set b.rewardEvaluated = true"
+      + " where b.betId = :betId and b.rewardEvaluated = false")
+  int markRewardEvaluated(UUID betId);
+}
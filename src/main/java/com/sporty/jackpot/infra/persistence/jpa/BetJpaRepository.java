@@ -0,0 +1,75 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import com.sporty.jackpot.domain.model.Bet;
+import com.sporty.jackpot.domain.persistence.BetRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@ConditionalOnProperty(name = "jackpot.persistence.mode", havingValue = "jpa")
+public class BetJpaRepository implements BetRepository {
+
+  private final BetEntityRepository entities;
+
+  public BetJpaRepository(BetEntityRepository entities) {
+    this.entities = entities;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<Bet> findById(UUID betId) {
+    return entities.findById(betId).map(BetEntity::toBet);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Bet> findAll() {
+    return entities.findAll().stream().map(BetEntity::toBet).toList();
+  }
+
+  @Override
+  @Transactional
+  public void save(Bet bet) {
+    entities.findById(bet.getBetId())
+        .ifPresentOrElse(entity -> entity.apply(bet), () -> entities.save(BetEntity.from(bet)));
+  }
+
+  // One query finds the bets already stored, the rest are inserted in JDBC batches on commit
+  @Override
+  @Transactional
+  public void saveAll(List<Bet> bets) {
+    Map<UUID, BetEntity> stored = entities.findAllById(bets.stream().map(Bet::getBetId).toList())
+        .stream()
+        .collect(Collectors.toMap(BetEntity::getBetId, Function.identity()));
+    List<BetEntity> inserted = new ArrayList<>(bets.size());
+    for (Bet bet : bets) {
+      BetEntity entity = stored.get(bet.getBetId());
+      if (entity != null) {
+        entity.apply(bet);
+      } else {
+        inserted.add(BetEntity.from(bet));
+      }
+    }
+    entities.saveAll(inserted);
+  }
+
+  @Override
+  @Transactional
+  public boolean markRewardEvaluated(UUID betId) {
+    return entities.markRewardEvaluated(betId) == 1;
+  }
+
+  @Override
+  @Transactional
+  public void delete(UUID betId) {
+    entities.deleteById(betId);
+  }
+}
@@ -0,0 +1,56 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import com.sporty.jackpot.domain.model.Contribution;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+// Ledger entries are only ever inserted, so they are always new to Spring Data and persisted in
+// JDBC batches rather than merged one by one
+@Entity
+@Table(name = "contribution", indexes = @Index(columnList = "jackpotId, sequence"))
+@Getter
+@NoArgsConstructor
+class ContributionEntity implements Persistable<UUID> {
+
+  @Id
+  private UUID contributionId;
+  private UUID jackpotId;
+  // Position in the jackpot's ledger, starting at 1
+  private long sequence;
+  private UUID betId;
+  @Column(precision = Decimals.PRECISION, scale = Decimals.SCALE)
+  private BigDecimal contributionAmount;
+  private LocalDateTime createdAt;
+
+  ContributionEntity(UUID jackpotId, long sequence, Contribution contribution) {
+    this.contributionId = UUID.randomUUID();
+    this.jackpotId = jackpotId;
+    this.sequence = sequence;
+    this.betId = contribution.getBetId();
+    this.contributionAmount = contribution.getContributionAmount();
+    this.createdAt = contribution.getCreatedAt();
+  }
+
+  Contribution toContribution() {
+    return new Contribution(betId, Decimals.read(contributionAmount, 0), createdAt);
+  }
+
+  @Override
+  public UUID getId() {
+    return contributionId;
+  }
+
+  @Override
+  public boolean isNew() {
+    return true;
+  }
+}
@@ -0,0 +1,22 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+interface ContributionEntityRepository extends JpaRepository<ContributionEntity, UUID> {
+
+  List<ContributionEntity> findByJackpotIdOrderBySequence(UUID jackpotId, Pageable pageable);
+
+  @Modifying
+  @Query("delete from ContributionEntity c where c.jackpotId = :jackpotId"
+      + " and c.sequence <= :sequence")
+  int deleteUpTo(UUID jackpotId, long sequence);
+
+  @Modifying
+  @Query("delete from ContributionEntity c where c.jackpotId = :jackpotId")
+  int deleteByJackpot(UUID jackpotId);
+}
@@ -0,0 +1,106 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import com.sporty.jackpot.domain.model.Contribution;
+import com.sporty.jackpot.domain.model.PoolSnapshot;
+import com.sporty.jackpot.domain.persistence.ContributionLedgerRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+// Appends run inside the jackpot update that applies the contributions, so the entries of a
+// polled batch are inserted together on its commit and the ledger head is written once
+@Repository
+@ConditionalOnProperty(name = "jackpot.persistence.mode", havingValue = "jpa")
+public class ContributionLedgerJpaRepository implements ContributionLedgerRepository {
+
+  private final ContributionEntityRepository contributions;
+  private final LedgerHeadEntityRepository heads;
+  private final int snapshotInterval;
+  private final int maxRetained;
+
+  public ContributionLedgerJpaRepository(ContributionEntityRepository contributions,
+      LedgerHeadEntityRepository heads,
+      @Value("${jackpot.ledger.snapshot-interval:1000}") int snapshotInterval,
+      @Value("${jackpot.ledger.max-retained:10000}") int maxRetained) {
+    this.contributions = contributions;
+    this.heads = heads;
+    this.snapshotInterval = snapshotInterval;
+    this.maxRetained = maxRetained;
+  }
+
+  @Override
+  @Transactional
+  public void append(UUID jackpotId, Contribution contribution, BigDecimal poolAfter) {
+    LedgerHeadEntity head = heads.findById(jackpotId)
+        .orElseGet(() -> heads.save(new LedgerHeadEntity(jackpotId)));
+    long sequence = head.getAppended() + 1;
+    head.setAppended(sequence);
+    contributions.save(new ContributionEntity(jackpotId, sequence, contribution));
+    if (sequence % snapshotInterval == 0) {
+      head.setSnapshotSequence(sequence);
+      head.setSnapshotPool(poolAfter);
+      head.setSnapshotTakenAt(LocalDateTime.now());
+    }
+    if (head.retained() > maxRetained) {
+      compact(head);
+    }
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Contribution> findByJackpotId(UUID jackpotId, int page, int size) {
+    if (page < 0 || size <= 0) {
+      return List.of();
+    }
+    return contributions.findByJackpotIdOrderBySequence(jackpotId, PageRequest.of(page, size))
+        .stream()
+        .map(ContributionEntity::toContribution)
+        .toList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public long count(UUID jackpotId) {
+    return heads.findById(jackpotId).map(LedgerHeadEntity::retained).orElse(0L);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<PoolSnapshot> findLatestSnapshot(UUID jackpotId) {
+    return heads.findById(jackpotId).map(LedgerHeadEntity::snapshot);
+  }
+
+  @Override
+  @Transactional
+  public int compact(UUID jackpotId) {
+    return heads.findById(jackpotId).map(this::compact).orElse(0);
+  }
+
+  @Override
+  @Transactional
+  public void remove(UUID jackpotId) {
+    contributions.deleteByJackpot(jackpotId);
+    heads.deleteById(jackpotId);
+  }
+
+  private int compact(LedgerHeadEntity head) {
+    if (head.getSnapshotSequence() == null) {
+      return 0;
+    }
+    int covered = (int) (head.getSnapshotSequence() - head.getCompacted());
+    if (covered > 0) {
+      // Pending inserts go out first, the delete has to see them
+      contributions.flush();
+      contributions.deleteUpTo(head.getJackpotId(), head.getSnapshotSequence());
+      head.setCompacted(head.getSnapshotSequence());
+    }
+    return covered;
+  }
+}
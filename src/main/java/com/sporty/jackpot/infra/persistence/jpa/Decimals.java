@@ -0,0 +1,30 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import java.math.BigDecimal;
+
+// Amounts are stored with a fixed scale wide enough for the contribution math, they are read back
+// without the padding zeros
+final class Decimals {
+
+  static final int PRECISION = 38;
+  static final int SCALE = 18;
+
+  private Decimals() {
+  }
+
+  static BigDecimal read(BigDecimal value, int minScale) {
+    if (value == null) {
+      return null;
+    }
+    BigDecimal stripped = value.stripTrailingZeros();
+    return stripped.scale() < minScale ? stripped.setScale(minScale) : stripped;
+  }
+
+  static BigDecimal money(BigDecimal value) {
+    return read(value, 2);
+  }
+
+  static BigDecimal rate(BigDecimal value) {
+    return read(value, 0);
+  }
+}
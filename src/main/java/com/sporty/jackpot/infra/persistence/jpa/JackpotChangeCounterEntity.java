@@ -0,0 +1,24 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// One stripe of the count of jackpot changes, the jackpots are spread over the stripes so writes
+// to different jackpots rarely wait for the same row
+@Entity
+@Table(name = "jackpot_change_counter")
+@Getter
+@NoArgsConstructor
+class JackpotChangeCounterEntity {
+
+  @Id
+  private int stripe;
+  private long changes;
+
+  JackpotChangeCounterEntity(int stripe) {
+    this.stripe = stripe;
+  }
+}
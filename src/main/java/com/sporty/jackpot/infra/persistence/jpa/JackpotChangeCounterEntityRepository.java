@@ -0,0 +1,17 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+interface JackpotChangeCounterEntityRepository
+    extends JpaRepository<JackpotChangeCounterEntity, Integer> {
+
+  @Modifying
+  @Query("update JackpotChangeCounterEntity c set c.changes = c.changes + 1"
+      + " where c.stripe = :stripe")
+  int increment(int stripe);
+
+  @Query("select coalesce(sum(c.changes), 0) from JackpotChangeCounterEntity c")
+  long total();
+}
@@ -0,0 +1,99 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.model.JackpotRules;
+import com.sporty.jackpot.domain.model.RewardType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// The version column makes a pool update fail rather than overwrite a concurrent one made by
+// another instance
+@Entity
+@Table(name = "jackpot")
+@Getter
+@Setter
+@NoArgsConstructor
+class JackpotEntity {
+
+  @Id
+  private UUID jackpotId;
+  @Version
+  private Long version;
+  private String name;
+  @Column(precision = Decimals.PRECISION, scale = Decimals.SCALE)
+  private BigDecimal initialPool;
+  @Column(precision = Decimals.PRECISION, scale = Decimals.SCALE)
+  private BigDecimal currentPool;
+  private LocalDateTime createdAt;
+  @Enumerated(EnumType.STRING)
+  private ContributionType contributionType;
+  @Enumerated(EnumType.STRING)
+  private RewardType rewardType;
+  @Column(precision = Decimals.PRECISION, scale = Decimals.SCALE)
+  private BigDecimal fixedContributionRate;
+  @Column(precision = Decimals.PRECISION, scale = Decimals.SCALE)
+  private BigDecimal variableContributionRate;
+  @Column(precision = Decimals.PRECISION, scale = Decimals.SCALE)
+  private BigDecimal contributionDecreaseRate;
+  @Column(precision = Decimals.PRECISION, scale = Decimals.SCALE)
+  private BigDecimal minContributionRate;
+  @Column(precision = Decimals.PRECISION, scale = Decimals.SCALE)
+  private BigDecimal fixedRewardChance;
+  @Column(precision = Decimals.PRECISION, scale = Decimals.SCALE)
+  private BigDecimal variableRewardChance;
+  @Column(precision = Decimals.PRECISION, scale = Decimals.SCALE)
+  private BigDecimal rewardIncreaseRate;
+  @Column(precision = Decimals.PRECISION, scale = Decimals.SCALE)
+  private BigDecimal poolLimitMultiplier;
+
+  static JackpotEntity from(Jackpot jackpot) {
+    JackpotEntity entity = new JackpotEntity();
+    entity.setJackpotId(jackpot.getJackpotId());
+    entity.apply(jackpot);
+    return entity;
+  }
+
+  void apply(Jackpot jackpot) {
+    name = jackpot.getName();
+    initialPool = jackpot.getInitialPool();
+    currentPool = jackpot.getCurrentPool();
+    createdAt = jackpot.getCreatedAt();
+    contributionType = jackpot.getContributionType();
+    rewardType = jackpot.getRewardType();
+    JackpotRules rules = jackpot.getRules();
+    fixedContributionRate = rules.fixedContributionRate();
+    variableContributionRate = rules.variableContributionRate();
+    contributionDecreaseRate = rules.contributionDecreaseRate();
+    minContributionRate = rules.minContributionRate();
+    fixedRewardChance = rules.fixedRewardChance();
+    variableRewardChance = rules.variableRewardChance();
+    rewardIncreaseRate = rules.rewardIncreaseRate();
+    poolLimitMultiplier = rules.poolLimitMultiplier();
+  }
+
+  Jackpot toJackpot() {
+    JackpotRules rules = new JackpotRules(
+        Decimals.rate(fixedContributionRate),
+        Decimals.rate(variableContributionRate),
+        Decimals.rate(contributionDecreaseRate),
+        Decimals.rate(minContributionRate),
+        Decimals.rate(fixedRewardChance),
+        Decimals.rate(variableRewardChance),
+        Decimals.rate(rewardIncreaseRate),
+        Decimals.rate(poolLimitMultiplier));
+    return new Jackpot(jackpotId, name, Decimals.money(initialPool), Decimals.money(currentPool),
+        createdAt, contributionType, rewardType, rules);
+  }
+}
@@ -0,0 +1,35 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+interface JackpotEntityRepository extends JpaRepository<JackpotEntity, UUID> {
+
+  // The version is raised and checked on commit even when nothing changed, an update decided on
+  // a pool another instance changed meanwhile fails
+  @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+  @Query("select j from JackpotEntity j where j.jackpotId = :jackpotId")
+  Optional<JackpotEntity> findForUpdate(UUID jackpotId);
+
+  // Raises the version like any other update, so an update decided on the pool before the
+  // addition fails instead of overwriting it
+  @Modifying
+  @Query("update JackpotEntity j set j.currentPool = j.currentPool + :amount,"
+      + " j.version = j.version + 1 where j.jackpotId = :jackpotId")
+  int addToPool(UUID jackpotId, BigDecimal amount);
+
+  @Query("select j.currentPool from JackpotEntity j where j.jackpotId = :jackpotId")
+  BigDecimal findCurrentPool(UUID jackpotId);
+
+  List<JackpotEntity> findAllByOrderByJackpotId(Limit limit);
+
+  List<JackpotEntity> findByJackpotIdGreaterThanOrderByJackpotId(UUID afterId, Limit limit);
+}
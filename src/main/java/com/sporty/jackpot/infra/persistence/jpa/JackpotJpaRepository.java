@@ -0,0 +1,177 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.persistence.JackpotRepository;
+import com.sporty.jackpot.infra.persistence.JackpotInMemoryRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Jackpots are read as detached copies. Updates to a jackpot are serialized within the instance
+// by striped locks held around their transaction, so they only conflict on the version column
+// with updates made by other instances. A conflict fails the update instead of retrying it, the
+// updaters have side effects that must not run twice.
+@Repository
+@ConditionalOnProperty(name = "jackpot.persistence.mode", havingValue = "jpa")
+public class JackpotJpaRepository implements JackpotRepository {
+
+  private static final int LOCK_STRIPES = 64;
+  private static final int LISTING_CHUNK = 100;
+  private static final int COUNTER_STRIPES = 16;
+
+  private final JackpotEntityRepository entities;
+  private final JackpotChangeCounterEntityRepository changeCounters;
+  private final TransactionTemplate transactionTemplate;
+  private final Lock[] locks = new Lock[LOCK_STRIPES];
+
+  public JackpotJpaRepository(JackpotEntityRepository entities,
+      JackpotChangeCounterEntityRepository changeCounters,
+      PlatformTransactionManager transactionManager) {
+    this.entities = entities;
+    this.changeCounters = changeCounters;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    for (int i = 0; i < LOCK_STRIPES; i++) {
+      locks[i] = new ReentrantLock();
+    }
+    transactionTemplate.executeWithoutResult(status -> {
+      for (int stripe = 0; stripe < COUNTER_STRIPES; stripe++) {
+        if (!changeCounters.existsById(stripe)) {
+          changeCounters.save(new JackpotChangeCounterEntity(stripe));
+        }
+      }
+      // The default jackpots are only created in an empty database, a deleted one stays deleted
+      if (entities.count() == 0) {
+        JackpotInMemoryRepository.seedJackpots()
+            .forEach(jackpot -> entities.save(JackpotEntity.from(jackpot)));
+      }
+    });
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<Jackpot> findById(UUID jackpotId) {
+    return entities.findById(jackpotId).map(JackpotEntity::toJackpot);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Jackpot> findAll() {
+    return entities.findAll().stream().map(JackpotEntity::toJackpot).toList();
+  }
+
+  // Read in chunks of ids, each chunk is queried when the stream reaches it
+  @Override
+  public Stream<Jackpot> findAllAfter(UUID afterId) {
+    return Stream.iterate(chunkAfter(afterId), chunk -> !chunk.isEmpty(),
+            chunk -> chunk.size() < LISTING_CHUNK ? List.of()
+                : chunkAfter(chunk.get(chunk.size() - 1).getJackpotId()))
+        .flatMap(List::stream);
+  }
+
+  // Every write counts itself in its transaction, so the total only grows, whichever instance
+  // made the change and across restarts
+  @Override
+  public long version() {
+    return changeCounters.total();
+  }
+
+  @Override
+  public void save(Jackpot jackpot) {
+    Lock lock = lockFor(jackpot.getJackpotId());
+    lock.lock();
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        entities.findById(jackpot.getJackpotId())
+            .ifPresentOrElse(entity -> entity.apply(jackpot),
+                () -> entities.save(JackpotEntity.from(jackpot)));
+        countChange(jackpot.getJackpotId());
+      });
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void delete(UUID jackpotId) {
+    Lock lock = lockFor(jackpotId);
+    lock.lock();
+    try {
+      transactionTemplate.executeWithoutResult(status -> entities.findById(jackpotId)
+          .ifPresent(entity -> {
+            entities.delete(entity);
+            countChange(jackpotId);
+          }));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // The repositories the updater writes to join the transaction, so a failed update leaves none
+  // of its writes behind
+  @Override
+  public Optional<Jackpot> update(UUID jackpotId, Consumer<Jackpot> updater) {
+    Lock lock = lockFor(jackpotId);
+    lock.lock();
+    try {
+      return transactionTemplate.execute(status -> entities.findForUpdate(jackpotId).map(entity -> {
+        Jackpot jackpot = entity.toJackpot();
+        updater.accept(jackpot);
+        entity.apply(jackpot);
+        countChange(jackpotId);
+        return jackpot;
+      }));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // A single update statement adds to the pool, without reading the row first. Additions from
+  // other instances wait for the row lock it takes instead of failing on the version. The
+  // recorder's writes join the transaction, the pool is only raised if they all commit.
+  @Override
+  public Optional<BigDecimal> addToPool(UUID jackpotId, BigDecimal amount,
+      Consumer<BigDecimal> recorder) {
+    // The lock keeps this instance's own updates and claims from failing on the raised version
+    Lock lock = lockFor(jackpotId);
+    lock.lock();
+    try {
+      return transactionTemplate.execute(status -> {
+        if (entities.addToPool(jackpotId, amount) == 0) {
+          return Optional.empty();
+        }
+        BigDecimal poolAfter = Decimals.money(entities.findCurrentPool(jackpotId));
+        recorder.accept(poolAfter);
+        countChange(jackpotId);
+        return Optional.of(poolAfter);
+      });
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private List<Jackpot> chunkAfter(UUID afterId) {
+    List<JackpotEntity> chunk = afterId != null
+        ? entities.findByJackpotIdGreaterThanOrderByJackpotId(afterId, Limit.of(LISTING_CHUNK))
+        : entities.findAllByOrderByJackpotId(Limit.of(LISTING_CHUNK));
+    return chunk.stream().map(JackpotEntity::toJackpot).toList();
+  }
+
+  private void countChange(UUID jackpotId) {
+    changeCounters.increment(Math.floorMod(jackpotId.hashCode(), COUNTER_STRIPES));
+  }
+
+  private Lock lockFor(UUID jackpotId) {
+    return locks[Math.floorMod(jackpotId.hashCode(), LOCK_STRIPES)];
+  }
+}
@@ -0,0 +1,47 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import com.sporty.jackpot.domain.model.PoolSnapshot;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Per jackpot ledger counters and its latest pool snapshot
+@Entity
+@Table(name = "ledger_head")
+@Getter
+@Setter
+@NoArgsConstructor
+class LedgerHeadEntity {
+
+  @Id
+  private UUID jackpotId;
+  @Version
+  private Long version;
+  private long appended;
+  private long compacted;
+  private Long snapshotSequence;
+  @Column(precision = Decimals.PRECISION, scale = Decimals.SCALE)
+  private BigDecimal snapshotPool;
+  private LocalDateTime snapshotTakenAt;
+
+  LedgerHeadEntity(UUID jackpotId) {
+    this.jackpotId = jackpotId;
+  }
+
+  long retained() {
+    return appended - compacted;
+  }
+
+  PoolSnapshot snapshot() {
+    return snapshotSequence == null ? null : new PoolSnapshot(jackpotId, snapshotSequence,
+        Decimals.money(snapshotPool), snapshotTakenAt);
+  }
+}
@@ -0,0 +1,8 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+interface LedgerHeadEntityRepository extends JpaRepository<LedgerHeadEntity, UUID> {
+
+}
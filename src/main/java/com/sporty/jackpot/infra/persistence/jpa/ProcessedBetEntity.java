@@ -0,0 +1,39 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+// Rows are only ever inserted, so they are persisted without being looked up first. A second
+// insert of the same bet fails on the primary key when its transaction commits.
+@Entity
+@Table(name = "processed_bet", indexes = @Index(columnList = "processedAt"))
+@Getter
+@NoArgsConstructor
+class ProcessedBetEntity implements Persistable<UUID> {
+
+  @Id
+  private UUID betId;
+  private Instant processedAt;
+
+  ProcessedBetEntity(UUID betId, Instant processedAt) {
+    this.betId = betId;
+    this.processedAt = processedAt;
+  }
+
+  @Override
+  public UUID getId() {
+    return betId;
+  }
+
+  @Override
+  public boolean isNew() {
+    return true;
+  }
+}
@@ -0,0 +1,16 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+interface ProcessedBetEntityRepository extends JpaRepository<ProcessedBetEntity, UUID> {
+
+  @Transactional
+  @Modifying
+  @Query("delete from ProcessedBetEntity p where p.processedAt < :cutoff")
+  int deleteProcessedBefore(Instant cutoff);
+}
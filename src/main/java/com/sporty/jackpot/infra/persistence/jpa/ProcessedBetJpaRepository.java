@@ -0,0 +1,96 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import com.sporty.jackpot.domain.persistence.ProcessedBetRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+// Marks join the transaction that applies the bets, so a bet is recorded as processed exactly
+// when its contribution commits and the mark survives a restart. Marks are inserted without a
+// lookup: two consumers racing on the same bet both insert it, the second one fails on the primary
+// key when it commits and rolls its changes back. Rows older than the retention are deleted
+// periodically, like the in-memory index evicts them.
+@Repository
+@ConditionalOnProperty(name = "jackpot.persistence.mode", havingValue = "jpa")
+public class ProcessedBetJpaRepository implements ProcessedBetRepository, AutoCloseable {
+
+  private final Logger logger = LoggerFactory.getLogger(ProcessedBetJpaRepository.class);
+
+  private final ProcessedBetEntityRepository entities;
+  private final Duration retention;
+  private final Clock clock;
+  private final ScheduledExecutorService scheduler;
+
+  @Autowired
+  public ProcessedBetJpaRepository(ProcessedBetEntityRepository entities,
+      @Value("${jackpot.dedup.retention:24h}") Duration retention,
+      @Value("${jackpot.dedup.eviction-interval:5m}") Duration evictionInterval) {
+    this(entities, retention, Clock.systemUTC());
+    scheduler.scheduleWithFixedDelay(this::evictExpiredQuietly, evictionInterval.toMillis(),
+        evictionInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  ProcessedBetJpaRepository(ProcessedBetEntityRepository entities, Duration retention,
+      Clock clock) {
+    this.entities = entities;
+    this.retention = retention;
+    this.clock = clock;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "jackpot-dedup-eviction");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Override
+  @Transactional
+  public boolean markProcessed(UUID betId) {
+    entities.save(new ProcessedBetEntity(betId, clock.instant()));
+    return true;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public boolean isProcessed(UUID betId) {
+    return entities.existsById(betId);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Set<UUID> findProcessed(Collection<UUID> betIds) {
+    return entities.findAllById(betIds).stream()
+        .map(ProcessedBetEntity::getBetId)
+        .collect(Collectors.toSet());
+  }
+
+  int evictExpired() {
+    return entities.deleteProcessedBefore(clock.instant().minus(retention));
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+
+  private void evictExpiredQuietly() {
+    try {
+      int evicted = evictExpired();
+      logger.debug("Evicted {} processed bets", evicted);
+    } catch (RuntimeException e) {
+      logger.error("Failed to evict processed bets", e);
+    }
+  }
+}
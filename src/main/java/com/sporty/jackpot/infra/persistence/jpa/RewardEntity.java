@@ -0,0 +1,56 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import com.sporty.jackpot.domain.model.Reward;
+import com.sporty.jackpot.domain.model.RewardType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "reward", indexes = {
+    @Index(columnList = "betId"),
+    @Index(columnList = "userId, grantedAt"),
+    @Index(columnList = "jackpotId, grantedAt")})
+@Getter
+@Setter
+@NoArgsConstructor
+class RewardEntity {
+
+  @Id
+  private UUID rewardId;
+  private UUID betId;
+  private UUID jackpotId;
+  private UUID userId;
+  @Enumerated(EnumType.STRING)
+  private RewardType rewardType;
+  @Column(precision = Decimals.PRECISION, scale = Decimals.SCALE)
+  private BigDecimal amount;
+  private LocalDateTime grantedAt;
+
+  static RewardEntity from(Reward reward) {
+    RewardEntity entity = new RewardEntity();
+    entity.setRewardId(reward.getRewardId());
+    entity.setBetId(reward.getBetId());
+    entity.setJackpotId(reward.getJackpotId());
+    entity.setUserId(reward.getUserId());
+    entity.setRewardType(reward.getRewardType());
+    entity.setAmount(reward.getAmount());
+    entity.setGrantedAt(reward.getGrantedAt());
+    return entity;
+  }
+
+  Reward toReward() {
+    return new Reward(rewardId, betId, jackpotId, userId, rewardType, Decimals.money(amount),
+        grantedAt);
+  }
+}
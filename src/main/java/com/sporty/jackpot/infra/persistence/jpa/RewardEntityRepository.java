@@ -0,0 +1,17 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+interface RewardEntityRepository extends JpaRepository<RewardEntity, UUID> {
+
+  Optional<RewardEntity> findFirstByBetId(UUID betId);
+
+  List<RewardEntity> findByUserIdOrderByGrantedAtDescRewardIdDesc(UUID userId, Pageable pageable);
+
+  List<RewardEntity> findByJackpotIdOrderByGrantedAtDescRewardIdDesc(UUID jackpotId,
+      Pageable pageable);
+}
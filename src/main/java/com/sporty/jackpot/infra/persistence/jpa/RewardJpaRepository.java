@@ -0,0 +1,73 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import com.sporty.jackpot.domain.model.Reward;
+import com.sporty.jackpot.domain.persistence.RewardRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+// Saves join the caller's transaction, a reward drawn under a jackpot update is only stored if
+// the update commits
+@Repository
+@ConditionalOnProperty(name = "jackpot.persistence.mode", havingValue = "jpa")
+public class RewardJpaRepository implements RewardRepository {
+
+  private final RewardEntityRepository entities;
+
+  public RewardJpaRepository(RewardEntityRepository entities) {
+    this.entities = entities;
+  }
+
+  @Override
+  @Transactional
+  public void save(Reward reward) {
+    entities.save(RewardEntity.from(reward));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<Reward> findById(UUID rewardId) {
+    return entities.findById(rewardId).map(RewardEntity::toReward);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<Reward> findByBetId(UUID betId) {
+    return entities.findFirstByBetId(betId).map(RewardEntity::toReward);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Reward> findByUserId(UUID userId, int page, int size) {
+    if (page < 0 || size <= 0) {
+      return List.of();
+    }
+    return entities.findByUserIdOrderByGrantedAtDescRewardIdDesc(userId, PageRequest.of(page, size))
+        .stream()
+        .map(RewardEntity::toReward)
+        .toList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Reward> findByJackpotId(UUID jackpotId, int page, int size) {
+    if (page < 0 || size <= 0) {
+      return List.of();
+    }
+    return entities.findByJackpotIdOrderByGrantedAtDescRewardIdDesc(jackpotId,
+            PageRequest.of(page, size))
+        .stream()
+        .map(RewardEntity::toReward)
+        .toList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Reward> findAll() {
+    return entities.findAll().stream().map(RewardEntity::toReward).toList();
+  }
+}
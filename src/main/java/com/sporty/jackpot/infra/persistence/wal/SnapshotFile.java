@@ -0,0 +1,99 @@
+package com.sporty.jackpot.infra.persistence.wal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+// The full state as a list of records, with the log position replay resumes from. Written to a
+// temporary file that replaces the previous snapshot once it is on disk, so a crash while writing
+// leaves the previous snapshot in place.
+public class SnapshotFile {
+
+  private static final int MAGIC = 0x4a505331;
+
+  private final Path file;
+  private final Path temporaryFile;
+
+  public SnapshotFile(Path file) {
+    this.file = file;
+    this.temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+  }
+
+  public record Snapshot(WalPosition position, List<byte[]> records) {
+
+  }
+
+  public void write(WalPosition position, Collection<byte[]> records) {
+    try {
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      CRC32C crc = new CRC32C();
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+          new CheckedOutputStream(Files.newOutputStream(temporaryFile), crc)))) {
+        out.writeInt(MAGIC);
+        out.writeLong(position.segment());
+        out.writeInt(position.offset());
+        out.writeInt(records.size());
+        for (byte[] record : records) {
+          out.writeInt(record.length);
+          out.write(record);
+        }
+        out.flush();
+        // Not part of the checksum, it is the checksum
+        out.writeInt((int) crc.getValue());
+      }
+      try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+        channel.force(true);
+      }
+      Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // Empty when no snapshot was written yet. A damaged snapshot is an error rather than a reason
+  // to start from scratch, the log segments it covered are gone.
+  public Optional<Snapshot> read() {
+    if (!Files.exists(file)) {
+      return Optional.empty();
+    }
+    CRC32C crc = new CRC32C();
+    try (CheckedInputStream checked = new CheckedInputStream(
+        new BufferedInputStream(Files.newInputStream(file)), crc);
+        DataInputStream in = new DataInputStream(checked)) {
+      if (in.readInt() != MAGIC) {
+        throw new IllegalStateException("Not a snapshot file: " + file);
+      }
+      WalPosition position = new WalPosition(in.readLong(), in.readInt());
+      int count = in.readInt();
+      List<byte[]> records = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        byte[] record = new byte[in.readInt()];
+        in.readFully(record);
+        records.add(record);
+      }
+      int expected = (int) crc.getValue();
+      if (in.readInt() != expected) {
+        throw new IllegalStateException("Snapshot file " + file + " is damaged");
+      }
+      return Optional.of(new Snapshot(position, records));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,7 @@
+package com.sporty.jackpot.infra.persistence.wal;
+
+// A point in the log: the segment and the byte offset of the next record in it
+public record WalPosition(long segment, int offset) {
+
+  public static final WalPosition START = new WalPosition(0, 0);
+}
@@ -0,0 +1,271 @@
+package com.sporty.jackpot.infra.persistence.wal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// Append-only log of opaque records in memory-mapped segment files of a fixed size. A record is
+// its length, a CRC32C of the payload and the payload; a zero length ends a segment. Records are
+// written to the mapping, so they survive a crash of the process right away, and sync forces them
+// to disk. Concurrent syncs are grouped: one caller forces everything appended so far while the
+// others wait for it, so a single force covers the records of many writers.
+public class WriteAheadLog implements Closeable {
+
+  private static final int HEADER_SIZE = 8;
+  private static final Pattern SEGMENT_NAME = Pattern.compile("wal-(\\d{20})\\.log");
+
+  private final Path directory;
+  private final int segmentSize;
+  private final boolean fsync;
+
+  private final Lock appendLock = new ReentrantLock();
+  // Guarded by appendLock
+  private MappedByteBuffer segment;
+  private long segmentId;
+  private long appended;
+
+  private final Lock syncLock = new ReentrantLock();
+  // Guarded by syncLock
+  private MappedByteBuffer forcedSegment;
+  private int forcedPosition;
+  private volatile long durable;
+
+  // fsync false leaves flushing to the OS, records then survive a crash of the process but not
+  // of the machine
+  public WriteAheadLog(Path directory, int segmentSize, boolean fsync) {
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.fsync = fsync;
+  }
+
+  // Replays the records from the given position on and opens the log for appending after the
+  // last intact record. A torn record at the end of the log, left by a crash in the middle of a
+  // write, is dropped. Segments before the position are deleted.
+  public void recover(WalPosition from, Consumer<byte[]> replay) {
+    appendLock.lock();
+    try {
+      if (segment != null) {
+        throw new IllegalStateException("The log has already been recovered");
+      }
+      Files.createDirectories(directory);
+      deleteSegmentsBefore(from.segment());
+
+      List<Long> segments = segmentIds().filter(id -> id >= from.segment()).sorted().toList();
+      if (segments.isEmpty()) {
+        openSegment(from.segment(), from.offset());
+        return;
+      }
+      for (int i = 0; i < segments.size(); i++) {
+        boolean last = i == segments.size() - 1;
+        long id = segments.get(i);
+        MappedByteBuffer buffer = map(id);
+        buffer.position(id == from.segment() ? from.offset() : 0);
+        boolean intact = replaySegment(buffer, replay);
+        if (!last && !intact) {
+          throw new IllegalStateException("Corrupt record in WAL segment " + segmentPath(id)
+              + " at offset " + buffer.position() + ", later segments exist");
+        }
+        if (last) {
+          // Clears a torn record so it is not read back after the records written over it
+          for (int p = buffer.position(); !intact && p < buffer.limit(); p++) {
+            buffer.put(p, (byte) 0);
+          }
+          segment = buffer;
+          segmentId = id;
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  // Returns the record's sequence number, to be passed to sync
+  public long append(byte[] payload) {
+    int recordSize = HEADER_SIZE + payload.length;
+    if (recordSize > segmentSize) {
+      throw new IllegalArgumentException("Record of " + payload.length + " bytes exceeds the "
+          + segmentSize + " bytes segment size");
+    }
+    CRC32C crc = new CRC32C();
+    crc.update(payload);
+
+    appendLock.lock();
+    try {
+      if (segment == null) {
+        throw new IllegalStateException("The log has not been recovered or is closed");
+      }
+      if (segment.remaining() < recordSize) {
+        roll();
+      }
+      segment.putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+      return ++appended;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  // The sequence number of the last appended record
+  public long lastAppended() {
+    appendLock.lock();
+    try {
+      return appended;
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  // Returns once the record with the given sequence number, and every one before it, is on disk
+  public void sync(long sequence) {
+    if (!fsync || durable >= sequence) {
+      return;
+    }
+    syncLock.lock();
+    try {
+      // Forced by the previous holder of the lock while this caller was waiting for it
+      if (durable >= sequence) {
+        return;
+      }
+      MappedByteBuffer target;
+      int end;
+      long upTo;
+      appendLock.lock();
+      try {
+        if (segment == null) {
+          return;
+        }
+        target = segment;
+        end = segment.position();
+        upTo = appended;
+      } finally {
+        appendLock.unlock();
+      }
+      // Earlier segments were forced when the log rolled over
+      int from = target == forcedSegment ? forcedPosition : 0;
+      target.force(from, end - from);
+      forcedSegment = target;
+      forcedPosition = end;
+      durable = upTo;
+    } finally {
+      syncLock.unlock();
+    }
+  }
+
+  // Where the next record goes. Everything appended before it is at an earlier position.
+  public WalPosition position() {
+    appendLock.lock();
+    try {
+      return new WalPosition(segmentId, segment.position());
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  // Removes the segments holding only records before the given segment, once a snapshot covers
+  // them. Mappings of deleted segments are released by the garbage collector.
+  public void deleteSegmentsBefore(long segment) {
+    try {
+      for (long id : segmentIds().filter(id -> id < segment).toList()) {
+        Files.deleteIfExists(segmentPath(id));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    appendLock.lock();
+    try {
+      if (segment != null) {
+        segment.force();
+        segment = null;
+      }
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  // Returns false when it stops at a record that is cut short or fails its checksum, with the
+  // buffer positioned at the start of that record
+  private boolean replaySegment(MappedByteBuffer buffer, Consumer<byte[]> replay) {
+    CRC32C crc = new CRC32C();
+    while (buffer.remaining() >= HEADER_SIZE) {
+      int start = buffer.position();
+      int length = buffer.getInt();
+      if (length == 0) {
+        buffer.position(start);
+        return true;
+      }
+      int checksum = buffer.getInt();
+      if (length < 0 || length > buffer.remaining()) {
+        buffer.position(start);
+        return false;
+      }
+      byte[] payload = new byte[length];
+      buffer.get(payload);
+      crc.reset();
+      crc.update(payload);
+      if ((int) crc.getValue() != checksum) {
+        buffer.position(start);
+        return false;
+      }
+      replay.accept(payload);
+    }
+    return true;
+  }
+
+  private void roll() throws IOException {
+    if (fsync) {
+      segment.force();
+    }
+    openSegment(segmentId + 1, 0);
+  }
+
+  private void openSegment(long id, int position) throws IOException {
+    MappedByteBuffer buffer = map(id);
+    buffer.position(position);
+    segment = buffer;
+    segmentId = id;
+  }
+
+  // Mapping past the end of a new file grows it, the new bytes read as zero. Existing segments
+  // keep their size in case the segment size was changed since they were written.
+  private MappedByteBuffer map(long id) throws IOException {
+    try (FileChannel channel = FileChannel.open(segmentPath(id), StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      return channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(channel.size(), segmentSize));
+    }
+  }
+
+  private Path segmentPath(long id) {
+    return directory.resolve(String.format("wal-%020d.log", id));
+  }
+
+  private Stream<Long> segmentIds() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files
+          .map(file -> SEGMENT_NAME.matcher(file.getFileName().toString()))
+          .filter(Matcher::matches)
+          .map(matcher -> Long.parseLong(matcher.group(1)))
+          .toList()
+          .stream();
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.sporty.jackpot.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sporty.jackpot.domain.model.Bet;
+import com.sporty.jackpot.domain.persistence.BetRepository;
+import com.sporty.jackpot.infra.persistence.BetRepositoryInMemory;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class BetProcessedNotifierTest {
+
+  private final BetRepository betRepository = new BetRepositoryInMemory();
+  private final BetProcessedNotifier notifier = new BetProcessedNotifier(betRepository);
+
+  @Test
+  void awaitProcessed_shouldCompleteAllWaiters_whenBetIsProcessed() {
+    // Arrange
+    Bet bet = bet();
+    CompletableFuture<Void> first = notifier.awaitProcessed(bet.getBetId());
+    CompletableFuture<Void> second = notifier.awaitProcessed(bet.getBetId());
+    CompletableFuture<Void> otherBet = notifier.awaitProcessed(UUID.randomUUID());
+
+    // Act
+    betRepository.save(bet);
+    notifier.processed(List.of(bet));
+
+    // Assert
+    assertThat(first).isCompleted();
+    assertThat(second).isCompleted();
+    assertThat(otherBet).isNotDone();
+  }
+
+  @Test
+  void awaitProcessed_shouldCompleteRightAway_whenBetIsAlreadyStored() {
+    // Arrange
+    Bet bet = bet();
+    betRepository.save(bet);
+
+    // Act
+    CompletableFuture<Void> waiter = notifier.awaitProcessed(bet.getBetId());
+
+    // Assert
+    assertThat(waiter).isCompleted();
+  }
+
+  @Test
+  void cancel_shouldStopNotifyingTheWaiter() {
+    // Arrange
+    Bet bet = bet();
+    CompletableFuture<Void> cancelled = notifier.awaitProcessed(bet.getBetId());
+    CompletableFuture<Void> waiting = notifier.awaitProcessed(bet.getBetId());
+
+    // Act
+    notifier.cancel(bet.getBetId(), cancelled);
+    notifier.processed(List.of(bet));
+
+    // Assert
+    assertThat(cancelled).isNotDone();
+    assertThat(waiting).isCompleted();
+  }
+
+  private Bet bet() {
+    return new Bet(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+        new BigDecimal("10.00"));
+  }
+}
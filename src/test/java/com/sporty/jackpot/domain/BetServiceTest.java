@@ -3,7 +3,9 @@ package com.sporty.jackpot.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -15,10 +17,27 @@ import com.sporty.jackpot.domain.model.RewardType;
 import com.sporty.jackpot.domain.persistence.BetRepository;
 import com.sporty.jackpot.domain.persistence.JackpotRepository;
 import com.sporty.jackpot.domain.persistence.RewardRepository;
+import com.sporty.jackpot.domain.policy.JackpotPolicyRegistry;
 import com.sporty.jackpot.infra.api.model.RewardResponse;
+import com.sporty.jackpot.infra.messaging.events.BetMessage;
+import com.sporty.jackpot.infra.persistence.BetRepositoryInMemory;
+import com.sporty.jackpot.infra.persistence.ContributionLedgerInMemoryRepository;
+import com.sporty.jackpot.infra.persistence.JackpotInMemoryRepository;
+import com.sporty.jackpot.infra.persistence.ProcessedBetInMemoryRepository;
+import com.sporty.jackpot.infra.persistence.RewardInMemoryRepository;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -46,16 +65,9 @@ class BetServiceTest {
     @BeforeEach
     void setUp() {
         // Create a BetService with mocked dependencies
-        betService = new BetService(jackpotRepository, betRepository, rewardRepository);
-        
-        // Replace the RewardChecker in BetService with our mock
-        try {
-            java.lang.reflect.Field field = BetService.class.getDeclaredField("rewardChecker");
-            field.setAccessible(true);
-            field.set(betService, rewardChecker);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to inject mock RewardChecker", e);
-        }
+        betService = new BetService(jackpotRepository, betRepository, rewardRepository,
+            rewardChecker, new RewardDecisionCache(1000), new BetProcessedNotifier(betRepository),
+            new StateBarrier(true), Runnable::run);
     }
     
     @Test
@@ -79,8 +91,8 @@ class BetServiceTest {
         jackpot.setJackpotId(jackpotId);
         jackpot.setCurrentPool(currentPool);
         
-        when(betRepository.findById(betId)).thenReturn(Optional.of(bet));
-        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(jackpot));
+        givenBet(bet);
+        givenJackpot(jackpot);
         when(rewardChecker.evaluate(jackpot)).thenReturn(true); // Bet wins
         
         // Act
@@ -94,11 +106,9 @@ class BetServiceTest {
         assertThat(reward.amount()).isEqualTo(currentPool);
         assertThat(reward.message()).isEqualTo("Congratulations! You have won the jackpot!");
         
-        // Verify jackpot was reset and saved
-        ArgumentCaptor<Jackpot> jackpotCaptor = ArgumentCaptor.forClass(Jackpot.class);
-        verify(jackpotRepository).save(jackpotCaptor.capture());
-        Jackpot savedJackpot = jackpotCaptor.getValue();
-        assertThat(savedJackpot.getCurrentPool()).isEqualTo(initialPool);
+        // Verify jackpot was reset through the atomic update
+        verify(jackpotRepository).update(eq(jackpotId), any());
+        assertThat(jackpot.getCurrentPool()).isEqualTo(initialPool);
         
         // Verify reward was saved
         ArgumentCaptor<Reward> rewardCaptor = ArgumentCaptor.forClass(Reward.class);
@@ -132,8 +142,8 @@ class BetServiceTest {
         jackpot.setJackpotId(jackpotId);
         jackpot.setCurrentPool(currentPool);
         
-        when(betRepository.findById(betId)).thenReturn(Optional.of(bet));
-        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(jackpot));
+        givenBet(bet);
+        givenJackpot(jackpot);
         when(rewardChecker.evaluate(jackpot)).thenReturn(false); // Bet does not win
         
         // Act
@@ -148,6 +158,7 @@ class BetServiceTest {
         assertThat(reward.message()).isEqualTo("Sorry, no reward this time. Better luck next time!");
         
         // Verify jackpot was not modified or saved
+        assertThat(jackpot.getCurrentPool()).isEqualTo(currentPool);
         verify(jackpotRepository, never()).save(any(Jackpot.class));
         
         // Verify no reward was saved
@@ -168,6 +179,7 @@ class BetServiceTest {
         
         // Verify no interactions with other repositories
         verify(jackpotRepository, never()).findById(any(UUID.class));
+        verify(jackpotRepository, never()).update(any(UUID.class), any());
         verify(jackpotRepository, never()).save(any(Jackpot.class));
         verify(rewardRepository, never()).save(any(Reward.class));
     }
@@ -184,7 +196,7 @@ class BetServiceTest {
         bet.setBetId(betId);
         
         when(betRepository.findById(betId)).thenReturn(Optional.of(bet));
-        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.empty());
+        when(jackpotRepository.update(eq(jackpotId), any())).thenReturn(Optional.empty());
         
         // Act & Assert
         assertThatThrownBy(() -> betService.checkReward(betId))
@@ -194,4 +206,240 @@ class BetServiceTest {
         // Verify no interactions with reward repository
         verify(rewardRepository, never()).save(any(Reward.class));
     }
+
+    @Test
+    void checkReward_shouldDrawOnce_whenCalledRepeatedly() {
+        // Arrange
+        UUID jackpotId = UUID.randomUUID();
+        Bet bet = new Bet(UUID.randomUUID(), UUID.randomUUID(), jackpotId, new BigDecimal("100.00"));
+        Jackpot jackpot = new Jackpot("Test Jackpot", new BigDecimal("1000.00"),
+            ContributionType.FIXED, RewardType.FIXED);
+        jackpot.setJackpotId(jackpotId);
+        jackpot.setCurrentPool(new BigDecimal("2000.00"));
+
+        givenBet(bet);
+        givenJackpot(jackpot);
+        when(rewardChecker.evaluate(jackpot)).thenReturn(true);
+
+        // Act
+        RewardResponse first = betService.checkReward(bet.getBetId());
+        RewardResponse second = betService.checkReward(bet.getBetId());
+
+        // Assert
+        assertThat(second).isEqualTo(first);
+        verify(betRepository, times(1)).markRewardEvaluated(bet.getBetId());
+        verify(rewardChecker, times(1)).evaluate(jackpot);
+        verify(rewardRepository, times(1)).save(any(Reward.class));
+    }
+
+    @Test
+    void checkReward_shouldRollBackThePayout_whenTheBetWasDrawnConcurrently() {
+        // Arrange
+        UUID jackpotId = UUID.randomUUID();
+        Bet bet = new Bet(UUID.randomUUID(), UUID.randomUUID(), jackpotId, new BigDecimal("100.00"));
+        Jackpot jackpot = new Jackpot("Test Jackpot", new BigDecimal("1000.00"),
+            ContributionType.FIXED, RewardType.FIXED);
+        jackpot.setJackpotId(jackpotId);
+
+        when(betRepository.findById(bet.getBetId())).thenReturn(Optional.of(bet));
+        // Another instance flagged the bet after it was read
+        when(betRepository.markRewardEvaluated(bet.getBetId())).thenReturn(false);
+        givenJackpot(jackpot);
+        when(rewardChecker.evaluate(jackpot)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> betService.checkReward(bet.getBetId()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("drawn concurrently");
+    }
+
+    @Test
+    void checkReward_shouldReturnStoredReward_whenBetWasAlreadyDrawn() {
+        // Arrange
+        UUID jackpotId = UUID.randomUUID();
+        Bet bet = new Bet(UUID.randomUUID(), UUID.randomUUID(), jackpotId, new BigDecimal("100.00"));
+        bet.setRewardEvaluated(true);
+        Reward reward = new Reward(bet.getBetId(), jackpotId, bet.getUserId(),
+            new BigDecimal("2000.00"));
+
+        when(betRepository.findById(bet.getBetId())).thenReturn(Optional.of(bet));
+        when(rewardRepository.findByBetId(bet.getBetId())).thenReturn(Optional.of(reward));
+
+        // Act
+        RewardResponse response = betService.checkReward(bet.getBetId());
+
+        // Assert
+        assertThat(response.amount()).isEqualTo(new BigDecimal("2000.00"));
+        assertThat(response.message()).isEqualTo("Congratulations! You have won the jackpot!");
+        verify(jackpotRepository, never()).update(any(UUID.class), any());
+        verify(rewardChecker, never()).evaluate(any(Jackpot.class));
+    }
+
+    @Test
+    void isBetIdTaken_shouldOnlyBeTrue_forABetOfAnotherUser() {
+        // Arrange
+        Bet bet = new Bet(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+            new BigDecimal("100.00"));
+        when(betRepository.findById(bet.getBetId())).thenReturn(Optional.of(bet));
+
+        // Act & Assert
+        assertThat(betService.isBetIdTaken(bet.getBetId(), UUID.randomUUID())).isTrue();
+        assertThat(betService.isBetIdTaken(bet.getBetId(), bet.getUserId())).isFalse();
+        assertThat(betService.isBetIdTaken(UUID.randomUUID(), bet.getUserId())).isFalse();
+    }
+
+    @Test
+    void awaitReward_shouldAnswerOnceBetIsProcessed() {
+        // Arrange
+        Bet bet = new Bet(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+            new BigDecimal("100.00"));
+        bet.setRewardEvaluated(true);
+        BetProcessedNotifier notifier = new BetProcessedNotifier(betRepository);
+        // The draw is queued here instead of running on the thread storing the bet
+        List<Runnable> rewardTasks = new ArrayList<>();
+        betService = new BetService(jackpotRepository, betRepository, rewardRepository,
+            rewardChecker, new RewardDecisionCache(1000), notifier, new StateBarrier(true),
+            rewardTasks::add);
+        when(betRepository.findById(bet.getBetId())).thenReturn(Optional.empty())
+            .thenReturn(Optional.of(bet));
+
+        // Act
+        CompletableFuture<Optional<RewardResponse>> reward = betService.awaitReward(bet.getBetId(),
+            Duration.ofSeconds(10));
+        boolean doneBeforeProcessing = reward.isDone();
+        notifier.processed(List.of(bet));
+        boolean doneOnTheStoringThread = reward.isDone();
+        rewardTasks.forEach(Runnable::run);
+
+        // Assert
+        assertThat(doneBeforeProcessing).isFalse();
+        assertThat(doneOnTheStoringThread).isFalse();
+        assertThat(reward.join()).hasValueSatisfying(response -> {
+            assertThat(response.betId()).isEqualTo(bet.getBetId());
+            assertThat(response.amount()).isEqualTo(BigDecimal.ZERO);
+        });
+    }
+
+    @Test
+    void awaitReward_shouldBeEmpty_whenBetIsNotProcessedInTime() {
+        // Arrange
+        UUID betId = UUID.randomUUID();
+        when(betRepository.findById(betId)).thenReturn(Optional.empty());
+
+        // Act
+        Optional<RewardResponse> reward = betService.awaitReward(betId, Duration.ofMillis(50))
+            .join();
+
+        // Assert
+        assertThat(reward).isEmpty();
+        // Checked when waiting starts and once more on timeout
+        verify(betRepository, times(2)).findById(betId);
+    }
+
+    @Test
+    void awaitReward_shouldAnswerOnTimeout_whenAnotherInstanceProcessedTheBet() {
+        // Arrange
+        Bet bet = new Bet(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+            new BigDecimal("100.00"));
+        bet.setRewardEvaluated(true);
+        // Not stored when waiting starts, stored by another instance before the timeout
+        when(betRepository.findById(bet.getBetId())).thenReturn(Optional.empty())
+            .thenReturn(Optional.of(bet));
+
+        // Act
+        Optional<RewardResponse> reward = betService.awaitReward(bet.getBetId(),
+            Duration.ofMillis(50)).join();
+
+        // Assert
+        assertThat(reward).hasValueSatisfying(
+            response -> assertThat(response.betId()).isEqualTo(bet.getBetId()));
+    }
+
+    @Test
+    void checkReward_shouldPayEveryContributionOnce_withConcurrentWinnersAndBets() throws Exception {
+        // Arrange
+        JackpotRepository jackpots = new JackpotInMemoryRepository();
+        BetRepository bets = new BetRepositoryInMemory();
+        RewardRepository rewards = new RewardInMemoryRepository();
+        JackpotPolicyRegistry policyRegistry = new JackpotPolicyRegistry(new DecimalContributionEngine());
+        // Every draw wins
+        BetProcessedNotifier notifier = new BetProcessedNotifier(bets);
+        StateBarrier stateBarrier = new StateBarrier(true);
+        BetService service = new BetService(jackpots, bets, rewards,
+            new RewardChecker(() -> 0.0, policyRegistry), new RewardDecisionCache(1000), notifier,
+            stateBarrier, Runnable::run);
+        JackpotService jackpotService = new JackpotService(jackpots, bets,
+            new ProcessedBetInMemoryRepository(Duration.ofHours(1), 100_000),
+            new ContributionLedgerInMemoryRepository(1000, 10000), policyRegistry, rewards,
+            new RewardChecker(() -> 0.0, policyRegistry), RewardEvaluation.ON_DEMAND, notifier,
+            stateBarrier, false);
+
+        BigDecimal initialPool = new BigDecimal("1000.00");
+        Jackpot jackpot = new Jackpot("Hot Jackpot", initialPool, ContributionType.FIXED,
+            RewardType.FIXED);
+        jackpots.save(jackpot);
+        List<UUID> winningBets = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            Bet bet = new Bet(UUID.randomUUID(), UUID.randomUUID(), jackpot.getJackpotId(),
+                BigDecimal.ONE);
+            bets.save(bet);
+            winningBets.add(bet.getBetId());
+        }
+        int contributingBets = 4000;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < contributingBets / 8; i++) {
+                    jackpotService.processBet(new BetMessage(UUID.randomUUID(), UUID.randomUUID(),
+                        jackpot.getJackpotId(), new BigDecimal("10.00"), LocalDateTime.now()));
+                }
+                return null;
+            });
+        }
+        for (int t = 0; t < 8; t++) {
+            int offset = t;
+            executor.submit(() -> {
+                start.await();
+                // Every winning bet is checked twice, by two different threads
+                for (int i = offset; i < winningBets.size(); i += 4) {
+                    service.checkReward(winningBets.get(i));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        // Assert
+        List<Reward> paid = rewards.findByJackpotId(jackpot.getJackpotId(), 0, 1000);
+        assertThat(paid).extracting(Reward::getBetId).containsExactlyInAnyOrderElementsOf(winningBets);
+        BigDecimal paidAmount = paid.stream().map(Reward::getAmount)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // 10% of every contributing bet
+        BigDecimal contributed = new BigDecimal("1.00").multiply(BigDecimal.valueOf(contributingBets));
+        assertThat(paidAmount.add(jackpot.getCurrentPool())).isEqualByComparingTo(
+            initialPool.multiply(BigDecimal.valueOf(winningBets.size() + 1)).add(contributed));
+    }
+
+    private void givenBet(Bet bet) {
+        when(betRepository.findById(bet.getBetId())).thenReturn(Optional.of(bet));
+        when(betRepository.markRewardEvaluated(bet.getBetId())).thenAnswer(invocation -> {
+            boolean marked = !bet.isRewardEvaluated();
+            bet.setRewardEvaluated(true);
+            return marked;
+        });
+    }
+
+    private void givenJackpot(Jackpot jackpot) {
+        when(jackpotRepository.update(eq(jackpot.getJackpotId()), any())).thenAnswer(invocation -> {
+            Consumer<Jackpot> updater = invocation.getArgument(1);
+            updater.accept(jackpot);
+            return Optional.of(jackpot);
+        });
+    }
 }
\ No newline at end of file
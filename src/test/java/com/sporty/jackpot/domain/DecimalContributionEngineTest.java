@@ -0,0 +1,108 @@
+package com.sporty.jackpot.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.model.RewardType;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class DecimalContributionEngineTest {
+
+  private final DecimalContributionEngine engine = new DecimalContributionEngine();
+
+  @Test
+  void calculate_shouldReturnFixedPercentage_whenContributionTypeIsFixed() {
+    // Arrange
+    Jackpot jackpot = jackpot(ContributionType.FIXED, null);
+
+    // Act
+    BigDecimal result = calculate(jackpot, "100.00");
+
+    // Assert
+    // Fixed percentage is 10%
+    assertThat(result).isEqualByComparingTo("10.00");
+  }
+
+  @Test
+  void calculate_shouldReturnFixedPercentage_whenContributionTypeIsNull() {
+    // Arrange
+    Jackpot jackpot = jackpot(null, null);
+
+    // Act
+    BigDecimal result = calculate(jackpot, "100.00");
+
+    // Assert
+    assertThat(result).isEqualByComparingTo("10.00");
+  }
+
+  @Test
+  void calculate_shouldHandleZeroAndLargeBetAmounts() {
+    // Arrange
+    Jackpot jackpot = jackpot(ContributionType.FIXED, null);
+
+    // Act
+    BigDecimal zero = calculate(jackpot, "0");
+    BigDecimal large = calculate(jackpot, "1000000.00");
+
+    // Assert
+    assertThat(zero).isEqualByComparingTo(BigDecimal.ZERO);
+    assertThat(large).isEqualByComparingTo("100000.00");
+  }
+
+  @Test
+  void calculate_shouldDecreaseVariablePercentage_asPoolGrows() {
+    // Arrange
+    Jackpot atInitialPool = jackpot(ContributionType.VARIABLE, "1000.00");
+    Jackpot doubled = jackpot(ContributionType.VARIABLE, "2000.00");
+    Jackpot withoutPool = jackpot(ContributionType.VARIABLE, null);
+    withoutPool.setCurrentPool(null);
+
+    // Act & Assert
+    // 20% - ratio * 5%
+    assertThat(calculate(atInitialPool, "100.00")).isEqualByComparingTo("15.00");
+    assertThat(calculate(doubled, "100.00")).isEqualByComparingTo("10.00");
+    // A missing pool counts as the initial pool
+    assertThat(calculate(withoutPool, "100.00")).isEqualByComparingTo("15.00");
+  }
+
+  @Test
+  void calculate_shouldRoundPoolRatioToTwoDecimals() {
+    // Arrange
+    Jackpot jackpot = jackpot(ContributionType.VARIABLE, "1333.33");
+
+    // Act
+    BigDecimal result = calculate(jackpot, "100.00");
+
+    // Assert
+    // Ratio 1.33, so 20% - 1.33 * 5% = 13.35%
+    assertThat(result).isEqualByComparingTo("13.35");
+  }
+
+  @Test
+  void calculate_shouldNotGoBelowMinimumPercentage() {
+    // Arrange
+    Jackpot jackpot = jackpot(ContributionType.VARIABLE, "4000.00");
+
+    // Act
+    BigDecimal result = calculate(jackpot, "100.00");
+
+    // Assert
+    // 20% - 4 * 5% = 0%, raised to the 5% minimum
+    assertThat(result).isEqualByComparingTo("5.00");
+  }
+
+  private BigDecimal calculate(Jackpot jackpot, String betAmount) {
+    return engine.compile(jackpot).calculate(jackpot.getCurrentPool(), new BigDecimal(betAmount));
+  }
+
+  private Jackpot jackpot(ContributionType contributionType, String currentPool) {
+    Jackpot jackpot = new Jackpot("Test Jackpot", new BigDecimal("1000.00"), contributionType,
+        RewardType.FIXED);
+    if (currentPool != null) {
+      jackpot.setCurrentPool(new BigDecimal(currentPool));
+    }
+    return jackpot;
+  }
+}
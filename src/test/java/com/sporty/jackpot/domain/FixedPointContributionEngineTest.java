@@ -0,0 +1,119 @@
+package com.sporty.jackpot.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sporty.jackpot.domain.model.Contribution;
+import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.model.JackpotRules;
+import com.sporty.jackpot.domain.model.RewardType;
+import com.sporty.jackpot.domain.policy.ContributionPolicy;
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class FixedPointContributionEngineTest {
+
+  private final FixedPointContributionEngine engine = new FixedPointContributionEngine();
+  private final DecimalContributionEngine decimalEngine = new DecimalContributionEngine();
+
+  @Test
+  void calculate_shouldMatchDecimalPolicy_whileJackpotsGrow() {
+    // Arrange
+    Random random = new Random(7);
+    Jackpot fixedJackpot = new Jackpot("Fixed", new BigDecimal("1000.00"), ContributionType.FIXED,
+        RewardType.FIXED);
+    Jackpot variableJackpot = new Jackpot("Variable", new BigDecimal("250.5"),
+        ContributionType.VARIABLE, RewardType.FIXED);
+
+    for (int i = 0; i < 20_000; i++) {
+      BigDecimal betAmount = BigDecimal.valueOf(random.nextInt(1_000_000), random.nextInt(4));
+      for (Jackpot jackpot : new Jackpot[]{fixedJackpot, variableJackpot}) {
+        // Act
+        BigDecimal result = engine.compile(jackpot).calculate(jackpot.getCurrentPool(), betAmount);
+
+        // Assert
+        // isEqualTo also compares the scale
+        assertThat(result).isEqualTo(decimal(jackpot, betAmount));
+        jackpot.addContribution(new Contribution(UUID.randomUUID(), result));
+      }
+    }
+    assertThat(variableJackpot.getCurrentPool())
+        .isGreaterThan(variableJackpot.getInitialPool().multiply(BigDecimal.valueOf(4)));
+  }
+
+  @Test
+  void calculate_shouldMatchDecimalPolicy_withCustomRules() {
+    // Arrange
+    JackpotRules rules = new JackpotRules(new BigDecimal("0.125"), new BigDecimal("0.3"),
+        new BigDecimal("0.0125"), new BigDecimal("0.075"), null, null, null, null).withDefaults();
+    Jackpot jackpot = new Jackpot("Variable", new BigDecimal("500"), ContributionType.VARIABLE,
+        RewardType.FIXED, rules);
+    ContributionPolicy policy = engine.compile(jackpot);
+    ContributionPolicy decimalPolicy = decimalEngine.compile(jackpot);
+    Random random = new Random(11);
+
+    for (int i = 0; i < 5_000; i++) {
+      BigDecimal betAmount = BigDecimal.valueOf(random.nextInt(100_000), 2);
+
+      // Act
+      BigDecimal result = policy.calculate(jackpot.getCurrentPool(), betAmount);
+
+      // Assert
+      assertThat(result).isEqualTo(decimalPolicy.calculate(jackpot.getCurrentPool(), betAmount));
+      jackpot.addContribution(new Contribution(UUID.randomUUID(), result));
+    }
+  }
+
+  @Test
+  void calculate_shouldMatchDecimalPolicy_atMinimumPercentage() {
+    // Arrange
+    Jackpot jackpot = new Jackpot("Variable", new BigDecimal("1000.00"), ContributionType.VARIABLE,
+        RewardType.FIXED);
+    jackpot.setCurrentPool(new BigDecimal("3005.00"));
+    BigDecimal betAmount = new BigDecimal("100.00");
+
+    // Act
+    BigDecimal result = engine.compile(jackpot).calculate(jackpot.getCurrentPool(), betAmount);
+
+    // Assert
+    assertThat(result).isEqualTo(new BigDecimal("5.0000"));
+    assertThat(result).isEqualTo(decimal(jackpot, betAmount));
+  }
+
+  @Test
+  void calculate_shouldFallBackToDecimal_whenAmountDoesNotFitLong() {
+    // Arrange
+    Jackpot jackpot = new Jackpot("Variable", new BigDecimal("1000.00"), ContributionType.VARIABLE,
+        RewardType.FIXED);
+    BigDecimal betAmount = new BigDecimal("123456789012345678901234.56");
+
+    // Act
+    BigDecimal result = engine.compile(jackpot).calculate(jackpot.getCurrentPool(), betAmount);
+
+    // Assert
+    assertThat(result).isEqualTo(decimal(jackpot, betAmount));
+  }
+
+  @Test
+  void compile_shouldFallBackToDecimal_whenMinimumRateScaleIsTooLarge() {
+    // Arrange
+    // Rates at scale 1 compared to a minimum at scale 20 need a factor of 10^19
+    JackpotRules rules = new JackpotRules(null, new BigDecimal("0.2"), new BigDecimal("0E+1"),
+        new BigDecimal("1E-20"), null, null, null, null).withDefaults();
+    Jackpot jackpot = new Jackpot("Variable", new BigDecimal("1000.00"), ContributionType.VARIABLE,
+        RewardType.FIXED, rules);
+    BigDecimal betAmount = new BigDecimal("100.00");
+
+    // Act
+    BigDecimal result = engine.compile(jackpot).calculate(jackpot.getCurrentPool(), betAmount);
+
+    // Assert
+    assertThat(result).isEqualTo(decimal(jackpot, betAmount));
+  }
+
+  private BigDecimal decimal(Jackpot jackpot, BigDecimal betAmount) {
+    return decimalEngine.compile(jackpot).calculate(jackpot.getCurrentPool(), betAmount);
+  }
+}
@@ -3,10 +3,14 @@ package com.sporty.jackpot.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.sporty.jackpot.domain.model.Contribution;
 import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.JackpotRules;
 import com.sporty.jackpot.domain.model.RewardType;
+import com.sporty.jackpot.domain.policy.JackpotPolicyRegistry;
 import com.sporty.jackpot.infra.api.model.JackpotRequest;
 import com.sporty.jackpot.infra.api.model.JackpotResponse;
+import com.sporty.jackpot.infra.persistence.ContributionLedgerInMemoryRepository;
 import com.sporty.jackpot.infra.persistence.JackpotInMemoryRepository;
 import java.math.BigDecimal;
 import java.util.List;
@@ -17,10 +21,14 @@ import org.junit.jupiter.api.Test;
 class JackpotCrudServiceTest {
 
     private JackpotCrudService jackpotCrudService;
+    private ContributionLedgerInMemoryRepository contributionLedgerRepository;
 
     @BeforeEach
     void setUp() {
-        jackpotCrudService = new JackpotCrudService(new JackpotInMemoryRepository());
+        contributionLedgerRepository = new ContributionLedgerInMemoryRepository(1000, 10000);
+        jackpotCrudService = new JackpotCrudService(new JackpotInMemoryRepository(),
+            new JackpotPolicyRegistry(new DecimalContributionEngine()),
+            contributionLedgerRepository);
     }
 
     @Test
@@ -49,7 +57,7 @@ class JackpotCrudServiceTest {
     }
 
     @Test
-    void getAll_shouldReturnAllJackpots() {
+    void list_shouldReturnAllJackpots_whenNotFiltered() {
         // Arrange
         JackpotRequest request1 = new JackpotRequest(
             "Jackpot 1",
@@ -68,7 +76,7 @@ class JackpotCrudServiceTest {
         jackpotCrudService.create(request2);
 
         // Act
-        List<JackpotResponse> responses = jackpotCrudService.getAll();
+        List<JackpotResponse> responses = jackpotCrudService.list(null, null, null).toList();
 
         // Assert
         assertThat(responses).hasSize(4); // Including the initial jackpots in the in-memory repo
@@ -79,6 +87,32 @@ class JackpotCrudServiceTest {
             "Jackpot 2");
     }
 
+    @Test
+    void list_shouldFilterByTypesInIdOrder_startingAfterCursor() {
+        // Arrange
+        for (int i = 0; i < 6; i++) {
+            jackpotCrudService.create(new JackpotRequest("Jackpot " + i, new BigDecimal("1000.00"),
+                i % 2 == 0 ? ContributionType.FIXED : ContributionType.VARIABLE, RewardType.FIXED));
+        }
+        List<UUID> fixedIds = jackpotCrudService.list(null, ContributionType.FIXED, RewardType.FIXED)
+            .map(JackpotResponse::id)
+            .toList();
+
+        // Act
+        List<JackpotResponse> afterFirst = jackpotCrudService.list(fixedIds.get(0),
+            ContributionType.FIXED, RewardType.FIXED).toList();
+
+        // Assert
+        // The three created plus the seeded fixed jackpot
+        assertThat(fixedIds).hasSize(4).isSorted();
+        assertThat(afterFirst).extracting(JackpotResponse::id)
+            .containsExactlyElementsOf(fixedIds.subList(1, 4));
+        assertThat(afterFirst).allSatisfy(jackpot -> {
+            assertThat(jackpot.contributionType()).isEqualTo(ContributionType.FIXED);
+            assertThat(jackpot.rewardType()).isEqualTo(RewardType.FIXED);
+        });
+    }
+
     @Test
     void getById_shouldReturnJackpotWhenExists() {
         // Arrange
@@ -131,4 +165,67 @@ class JackpotCrudServiceTest {
             .isInstanceOf(RuntimeException.class)
             .hasMessageContaining("Jackpot not found");
     }
-}
\ No newline at end of file
+
+    @Test
+    void delete_shouldDropTheJackpotsContributionLedger() {
+        // Arrange
+        JackpotRequest request = new JackpotRequest(
+            "Test Jackpot",
+            new BigDecimal("1000.00"),
+            ContributionType.FIXED,
+            RewardType.FIXED
+        );
+        UUID jackpotId = jackpotCrudService.create(request).id();
+        contributionLedgerRepository.append(jackpotId,
+            new Contribution(UUID.randomUUID(), new BigDecimal("10.00")),
+            new BigDecimal("1010.00"));
+
+        // Act
+        jackpotCrudService.delete(jackpotId);
+
+        // Assert
+        assertThat(contributionLedgerRepository.count(jackpotId)).isZero();
+    }
+
+    @Test
+    void create_shouldFillRulesLeftOutWithDefaults() {
+        // Arrange
+        JackpotRules rules = new JackpotRules(new BigDecimal("0.15"), null, null, null, null,
+            null, null, new BigDecimal("5"));
+        JackpotRequest request = new JackpotRequest(
+            "Test Jackpot",
+            new BigDecimal("1000.00"),
+            ContributionType.FIXED,
+            RewardType.VARIABLE,
+            rules
+        );
+
+        // Act
+        JackpotResponse response = jackpotCrudService.create(request);
+
+        // Assert
+        assertThat(response.rules().fixedContributionRate()).isEqualTo(new BigDecimal("0.15"));
+        assertThat(response.rules().poolLimitMultiplier()).isEqualTo(new BigDecimal("5"));
+        assertThat(response.rules().variableRewardChance())
+            .isEqualTo(JackpotRules.DEFAULTS.variableRewardChance());
+    }
+
+    @Test
+    void create_shouldRejectRateAboveOne() {
+        // Arrange
+        JackpotRules rules = new JackpotRules(new BigDecimal("1.5"), null, null, null, null,
+            null, null, null);
+        JackpotRequest request = new JackpotRequest(
+            "Test Jackpot",
+            new BigDecimal("1000.00"),
+            ContributionType.FIXED,
+            RewardType.FIXED,
+            rules
+        );
+
+        // Act & Assert
+        assertThatThrownBy(() -> jackpotCrudService.create(request))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("fixedContributionRate");
+    }
+}
@@ -2,22 +2,36 @@ package com.sporty.jackpot.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.sporty.jackpot.domain.model.Bet;
+import com.sporty.jackpot.domain.model.Contribution;
 import com.sporty.jackpot.domain.model.ContributionType;
 import com.sporty.jackpot.domain.model.Jackpot;
 import com.sporty.jackpot.domain.model.RewardType;
 import com.sporty.jackpot.domain.persistence.BetRepository;
+import com.sporty.jackpot.domain.persistence.ContributionLedgerRepository;
 import com.sporty.jackpot.domain.persistence.JackpotRepository;
+import com.sporty.jackpot.domain.persistence.ProcessedBetRepository;
+import com.sporty.jackpot.domain.persistence.RewardRepository;
+import com.sporty.jackpot.domain.policy.JackpotPolicyRegistry;
 import com.sporty.jackpot.infra.messaging.events.BetMessage;
+import com.sporty.jackpot.infra.persistence.ContributionLedgerInMemoryRepository;
+import com.sporty.jackpot.infra.persistence.ProcessedBetInMemoryRepository;
+import com.sporty.jackpot.infra.persistence.RewardInMemoryRepository;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -27,13 +41,33 @@ class JackpotServiceTest {
 
   private JackpotRepository jackpotRepository;
   private BetRepository betRepository;
+  private ContributionLedgerRepository contributionLedgerRepository;
+  private ProcessedBetRepository processedBetRepository;
+  private RewardRepository rewardRepository;
+  private RewardChecker rewardChecker;
   private JackpotService jackpotService;
 
   @BeforeEach
   void setUp() {
     jackpotRepository = Mockito.mock(JackpotRepository.class);
     betRepository = Mockito.mock(BetRepository.class);
-    jackpotService = new JackpotService(jackpotRepository, betRepository);
+    contributionLedgerRepository = new ContributionLedgerInMemoryRepository(1000, 10000);
+    processedBetRepository = new ProcessedBetInMemoryRepository(Duration.ofHours(1), 1000);
+    rewardRepository = new RewardInMemoryRepository();
+    rewardChecker = Mockito.mock(RewardChecker.class);
+    jackpotService = jackpotService(RewardEvaluation.ON_DEMAND);
+  }
+
+  private JackpotService jackpotService(RewardEvaluation rewardEvaluation) {
+    return jackpotService(rewardEvaluation, false);
+  }
+
+  private JackpotService jackpotService(RewardEvaluation rewardEvaluation,
+      boolean atomicPoolIncrements) {
+    return new JackpotService(jackpotRepository, betRepository, processedBetRepository,
+        contributionLedgerRepository, new JackpotPolicyRegistry(new DecimalContributionEngine()),
+        rewardRepository, rewardChecker, rewardEvaluation, new BetProcessedNotifier(betRepository),
+        new StateBarrier(true), atomicPoolIncrements);
   }
 
   @Test
@@ -61,7 +95,7 @@ class JackpotServiceTest {
         LocalDateTime.now()
     );
 
-    when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(jackpot));
+    givenJackpot(jackpot);
 
     // Act
     jackpotService.processBet(betMessage);
@@ -76,18 +110,19 @@ class JackpotServiceTest {
     assertThat(savedBet.getJackpotId()).isEqualTo(jackpotId);
     assertThat(savedBet.getBetAmount()).isEqualTo(betAmount);
 
-    // Verify jackpot was updated and saved
-    ArgumentCaptor<Jackpot> jackpotCaptor = ArgumentCaptor.forClass(Jackpot.class);
-    verify(jackpotRepository).save(jackpotCaptor.capture());
-    Jackpot savedJackpot = jackpotCaptor.getValue();
+    // Verify the contribution was added to the pool
+    verify(jackpotRepository).update(eq(jackpotId), any());
+    Jackpot savedJackpot = jackpot;
 
     // For FIXED contribution type with 10% rate, contribution should be 10.00
     BigDecimal expectedContribution = new BigDecimal("10.00");
     BigDecimal expectedNewPool = initialPool.add(expectedContribution);
 
     assertThat(savedJackpot.getCurrentPool()).isEqualByComparingTo(expectedNewPool);
-    assertThat(savedJackpot.getContributions()).hasSize(1);
-    assertThat(savedJackpot.getContributions().get(0).getContributionAmount())
+    List<Contribution> contributions = contributionLedgerRepository.findByJackpotId(jackpotId, 0,
+        10);
+    assertThat(contributions).hasSize(1);
+    assertThat(contributions.get(0).getContributionAmount())
         .isEqualByComparingTo(expectedContribution);
   }
 
@@ -116,15 +151,14 @@ class JackpotServiceTest {
         LocalDateTime.now()
     );
 
-    when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(jackpot));
+    givenJackpot(jackpot);
 
     // Act
     jackpotService.processBet(betMessage);
 
     // Assert
-    ArgumentCaptor<Jackpot> jackpotCaptor = ArgumentCaptor.forClass(Jackpot.class);
-    verify(jackpotRepository).save(jackpotCaptor.capture());
-    Jackpot savedJackpot = jackpotCaptor.getValue();
+    verify(jackpotRepository).update(eq(jackpotId), any());
+    Jackpot savedJackpot = jackpot;
 
     // For VARIABLE contribution type, the initial rate is 20% but decreases as pool grows
     // With pool ratio of 1.0, the adjusted percentage should be 20% - (1.0 * 5%) = 15%
@@ -132,8 +166,10 @@ class JackpotServiceTest {
     BigDecimal expectedNewPool = initialPool.add(expectedContribution);
 
     assertThat(savedJackpot.getCurrentPool()).isEqualByComparingTo(expectedNewPool);
-    assertThat(savedJackpot.getContributions()).hasSize(1);
-    assertThat(savedJackpot.getContributions().get(0).getContributionAmount())
+    List<Contribution> contributions = contributionLedgerRepository.findByJackpotId(jackpotId, 0,
+        10);
+    assertThat(contributions).hasSize(1);
+    assertThat(contributions.get(0).getContributionAmount())
         .isEqualByComparingTo(expectedContribution);
   }
 
@@ -163,15 +199,14 @@ class JackpotServiceTest {
         LocalDateTime.now()
     );
 
-    when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(jackpot));
+    givenJackpot(jackpot);
 
     // Act
     jackpotService.processBet(betMessage);
 
     // Assert
-    ArgumentCaptor<Jackpot> jackpotCaptor = ArgumentCaptor.forClass(Jackpot.class);
-    verify(jackpotRepository).save(jackpotCaptor.capture());
-    Jackpot savedJackpot = jackpotCaptor.getValue();
+    verify(jackpotRepository).update(eq(jackpotId), any());
+    Jackpot savedJackpot = jackpot;
 
     // For FIXED contribution type with 10% rate, contribution should be 10.00
     BigDecimal expectedContribution = new BigDecimal("10.00");
@@ -206,4 +241,247 @@ class JackpotServiceTest {
     // Verify no bet was saved
     verify(betRepository, never()).save(any(Bet.class));
   }
+
+  @Test
+  void processBet_shouldIgnoreDuplicateBet() {
+    // Arrange
+    UUID jackpotId = UUID.randomUUID();
+    BigDecimal initialPool = new BigDecimal("1000.00");
+
+    Jackpot jackpot = new Jackpot(
+        "Test Jackpot",
+        initialPool,
+        ContributionType.FIXED,
+        RewardType.FIXED
+    );
+    jackpot.setJackpotId(jackpotId);
+
+    BetMessage betMessage = new BetMessage(
+        UUID.randomUUID(),
+        UUID.randomUUID(),
+        jackpotId,
+        new BigDecimal("100.00"),
+        LocalDateTime.now()
+    );
+
+    givenJackpot(jackpot);
+
+    // Act
+    jackpotService.processBet(betMessage);
+    jackpotService.processBet(betMessage);
+
+    // Assert
+    verify(betRepository).save(any(Bet.class));
+    assertThat(jackpot.getCurrentPool()).isEqualByComparingTo(new BigDecimal("1010.00"));
+  }
+
+  @Test
+  void processBets_shouldApplySingleUpdatePerJackpot_preservingOrder() {
+    // Arrange
+    Jackpot fixedJackpot = new Jackpot("Fixed Jackpot", new BigDecimal("1000.00"),
+        ContributionType.FIXED, RewardType.FIXED);
+    Jackpot variableJackpot = new Jackpot("Variable Jackpot", new BigDecimal("1000.00"),
+        ContributionType.VARIABLE, RewardType.FIXED);
+    givenJackpot(fixedJackpot);
+    givenJackpot(variableJackpot);
+
+    BetMessage fixedBet1 = betMessage(fixedJackpot.getJackpotId(), "100.00");
+    BetMessage variableBet1 = betMessage(variableJackpot.getJackpotId(), "100.00");
+    BetMessage fixedBet2 = betMessage(fixedJackpot.getJackpotId(), "200.00");
+    BetMessage variableBet2 = betMessage(variableJackpot.getJackpotId(), "100.00");
+
+    // Act
+    jackpotService.processBets(List.of(fixedBet1, variableBet1, fixedBet2, variableBet2,
+        fixedBet1));
+
+    // Assert
+    verify(jackpotRepository, times(1)).update(eq(fixedJackpot.getJackpotId()), any());
+    verify(jackpotRepository, times(1)).update(eq(variableJackpot.getJackpotId()), any());
+    verify(jackpotRepository, never()).addToPool(any(), any(), any());
+    verify(betRepository, times(2)).saveAll(any());
+
+    // 10% of 100 and 200, the duplicated first bet is ignored
+    assertThat(fixedJackpot.getCurrentPool()).isEqualByComparingTo("1030.00");
+    // 15% of 100 at ratio 1.00, then 20% - 1.02 * 5% = 14.90% of 100
+    assertThat(variableJackpot.getCurrentPool()).isEqualByComparingTo("1029.90");
+    assertThat(contributionLedgerRepository.findByJackpotId(fixedJackpot.getJackpotId(), 0, 10))
+        .extracting("betId")
+        .containsExactly(fixedBet1.betRequestId(), fixedBet2.betRequestId());
+  }
+
+  @Test
+  void processBets_shouldApplyOtherJackpotsAndFail_whenAJackpotIsNotFound() {
+    // Arrange
+    Jackpot jackpot = new Jackpot("Fixed Jackpot", new BigDecimal("1000.00"),
+        ContributionType.FIXED, RewardType.FIXED);
+    givenJackpot(jackpot);
+    UUID nonExistentJackpotId = UUID.randomUUID();
+    when(jackpotRepository.findById(nonExistentJackpotId)).thenReturn(Optional.empty());
+
+    // Act & Assert
+    assertThatThrownBy(() -> jackpotService.processBets(List.of(
+        betMessage(nonExistentJackpotId, "100.00"),
+        betMessage(jackpot.getJackpotId(), "100.00"))))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessageContaining(nonExistentJackpotId.toString());
+    assertThat(jackpot.getCurrentPool()).isEqualByComparingTo("1010.00");
+  }
+
+  @Test
+  void processBets_shouldApplyBetsAgainOnRedelivery_whenStoringThemFailed() {
+    // Arrange
+    JackpotService inlineService = jackpotService(RewardEvaluation.INLINE);
+    Jackpot jackpot = new Jackpot("Fixed Jackpot", new BigDecimal("1000.00"),
+        ContributionType.FIXED, RewardType.FIXED);
+    givenJackpot(jackpot);
+    BetMessage betMessage = betMessage(jackpot.getJackpotId(), "100.00");
+    Mockito.doThrow(new IllegalStateException("Store unavailable"))
+        .doNothing()
+        .when(betRepository).saveAll(any());
+
+    // Act
+    assertThatThrownBy(() -> inlineService.processBets(List.of(betMessage)))
+        .isInstanceOf(RuntimeException.class);
+    inlineService.processBets(List.of(betMessage));
+
+    // Assert
+    ArgumentCaptor<List<Bet>> betsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(betRepository, times(2)).saveAll(betsCaptor.capture());
+    assertThat(betsCaptor.getAllValues().get(1)).extracting(Bet::getBetId)
+        .containsExactly(betMessage.betRequestId());
+  }
+
+  @Test
+  void processBets_shouldAddBetsAgainOnRedelivery_whenStoringThemFailedAfterAtomicIncrement() {
+    // Arrange
+    JackpotService service = jackpotService(RewardEvaluation.ON_DEMAND, true);
+    Jackpot jackpot = new Jackpot("Fixed Jackpot", new BigDecimal("1000.00"),
+        ContributionType.FIXED, RewardType.FIXED);
+    givenJackpot(jackpot);
+    BetMessage betMessage = betMessage(jackpot.getJackpotId(), "100.00");
+    Mockito.doThrow(new IllegalStateException("Store unavailable"))
+        .doNothing()
+        .when(betRepository).saveAll(any());
+
+    // Act
+    assertThatThrownBy(() -> service.processBets(List.of(betMessage)))
+        .isInstanceOf(RuntimeException.class);
+    service.processBets(List.of(betMessage));
+
+    // Assert
+    verify(jackpotRepository, times(2)).addToPool(eq(jackpot.getJackpotId()), any(), any());
+    verify(betRepository, times(2)).saveAll(any());
+  }
+
+  @Test
+  void processBets_shouldFailTheAtomicIncrement_whenABetWasProcessedConcurrently() {
+    // Arrange
+    processedBetRepository = Mockito.mock(ProcessedBetRepository.class);
+    // Not processed when checked, marked by another consumer before this one marks it
+    when(processedBetRepository.findProcessed(any())).thenReturn(Set.of());
+    when(processedBetRepository.markProcessed(any())).thenReturn(false);
+    JackpotService service = jackpotService(RewardEvaluation.ON_DEMAND, true);
+    Jackpot jackpot = new Jackpot("Fixed Jackpot", new BigDecimal("1000.00"),
+        ContributionType.FIXED, RewardType.FIXED);
+    givenJackpot(jackpot);
+
+    // Act & Assert
+    assertThatThrownBy(() -> service.processBets(
+        List.of(betMessage(jackpot.getJackpotId(), "100.00"))))
+        .isInstanceOf(RuntimeException.class);
+    assertThat(jackpot.getCurrentPool()).isEqualByComparingTo("1000.00");
+  }
+
+  @Test
+  void processBet_shouldNotDrawReward_withOnDemandEvaluation() {
+    // Arrange
+    Jackpot jackpot = new Jackpot("Fixed Jackpot", new BigDecimal("1000.00"),
+        ContributionType.FIXED, RewardType.FIXED);
+    givenJackpot(jackpot);
+
+    // Act
+    jackpotService.processBet(betMessage(jackpot.getJackpotId(), "100.00"));
+
+    // Assert
+    ArgumentCaptor<Bet> betCaptor = ArgumentCaptor.forClass(Bet.class);
+    verify(betRepository).save(betCaptor.capture());
+    assertThat(betCaptor.getValue().isRewardEvaluated()).isFalse();
+    verify(rewardChecker, never()).evaluate(any(Jackpot.class));
+  }
+
+  @Test
+  void processBet_shouldDrawRewardAfterContribution_withInlineEvaluation() {
+    // Arrange
+    JackpotService inlineService = jackpotService(RewardEvaluation.INLINE);
+    Jackpot jackpot = new Jackpot("Fixed Jackpot", new BigDecimal("1000.00"),
+        ContributionType.FIXED, RewardType.FIXED);
+    givenJackpot(jackpot);
+    BetMessage winningBet = betMessage(jackpot.getJackpotId(), "100.00");
+    BetMessage losingBet = betMessage(jackpot.getJackpotId(), "100.00");
+    when(rewardChecker.evaluate(jackpot)).thenReturn(true, false);
+
+    // Act
+    inlineService.processBets(List.of(winningBet, losingBet));
+
+    // Assert
+    // The winner takes the pool including its own contribution, the next bet contributes to the
+    // reset pool
+    assertThat(rewardRepository.findByBetId(winningBet.betRequestId())).hasValueSatisfying(
+        reward -> assertThat(reward.getAmount()).isEqualByComparingTo("1010.00"));
+    assertThat(rewardRepository.findByBetId(losingBet.betRequestId())).isEmpty();
+    assertThat(jackpot.getCurrentPool()).isEqualByComparingTo("1010.00");
+
+    ArgumentCaptor<List<Bet>> betsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(betRepository).saveAll(betsCaptor.capture());
+    assertThat(betsCaptor.getValue()).extracting(Bet::isRewardEvaluated).containsExactly(true, true);
+  }
+
+  @Test
+  void processBets_shouldAddBatchToPoolOnce_andRecordPoolAfterEachContribution() {
+    // Arrange
+    contributionLedgerRepository = Mockito.mock(ContributionLedgerRepository.class);
+    JackpotService service = jackpotService(RewardEvaluation.ON_DEMAND, true);
+    Jackpot jackpot = new Jackpot("Fixed Jackpot", new BigDecimal("1000.00"),
+        ContributionType.FIXED, RewardType.FIXED);
+    givenJackpot(jackpot);
+
+    // Act
+    service.processBets(List.of(betMessage(jackpot.getJackpotId(), "100.00"),
+        betMessage(jackpot.getJackpotId(), "200.00")));
+
+    // Assert
+    ArgumentCaptor<BigDecimal> amountCaptor = ArgumentCaptor.forClass(BigDecimal.class);
+    verify(jackpotRepository).addToPool(eq(jackpot.getJackpotId()), amountCaptor.capture(),
+        any());
+    assertThat(amountCaptor.getValue()).isEqualByComparingTo("30.00");
+    ArgumentCaptor<BigDecimal> poolCaptor = ArgumentCaptor.forClass(BigDecimal.class);
+    verify(contributionLedgerRepository, times(2))
+        .append(eq(jackpot.getJackpotId()), any(), poolCaptor.capture());
+    assertThat(poolCaptor.getAllValues()).usingElementComparator(BigDecimal::compareTo)
+        .containsExactly(new BigDecimal("1010.00"), new BigDecimal("1030.00"));
+    verify(jackpotRepository, never()).update(any(), any());
+  }
+
+  private BetMessage betMessage(UUID jackpotId, String amount) {
+    return new BetMessage(UUID.randomUUID(), UUID.randomUUID(), jackpotId, new BigDecimal(amount),
+        LocalDateTime.now());
+  }
+
+  private void givenJackpot(Jackpot jackpot) {
+    when(jackpotRepository.findById(jackpot.getJackpotId())).thenReturn(Optional.of(jackpot));
+    when(jackpotRepository.addToPool(eq(jackpot.getJackpotId()), any(), any()))
+        .thenAnswer(invocation -> {
+          BigDecimal amount = invocation.getArgument(1);
+          Consumer<BigDecimal> recorder = invocation.getArgument(2);
+          BigDecimal poolAfter = jackpot.getCurrentPool().add(amount);
+          recorder.accept(poolAfter);
+          jackpot.setCurrentPool(poolAfter);
+          return Optional.of(poolAfter);
+        });
+    when(jackpotRepository.update(eq(jackpot.getJackpotId()), any())).thenAnswer(invocation -> {
+      Consumer<Jackpot> updater = invocation.getArgument(1);
+      updater.accept(jackpot);
+      return Optional.of(jackpot);
+    });
+  }
 }
@@ -0,0 +1,90 @@
+package com.sporty.jackpot.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sporty.jackpot.infra.api.model.RewardResponse;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RewardDecisionCacheTest {
+
+  private final RewardDecisionCache cache = new RewardDecisionCache(2);
+
+  @Test
+  void get_shouldDecideOnce_forConcurrentCallsOnSameBet() throws Exception {
+    // Arrange
+    UUID betId = UUID.randomUUID();
+    AtomicInteger decisions = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    List<Future<RewardResponse>> results = new ArrayList<>();
+
+    // Act
+    for (int i = 0; i < 8; i++) {
+      results.add(executor.submit(() -> {
+        start.await();
+        return cache.get(betId, id -> {
+          decisions.incrementAndGet();
+          return response(id);
+        });
+      }));
+    }
+    start.countDown();
+    executor.shutdown();
+
+    // Assert
+    RewardResponse first = results.get(0).get();
+    for (Future<RewardResponse> result : results) {
+      assertThat(result.get()).isSameAs(first);
+    }
+    assertThat(decisions).hasValue(1);
+  }
+
+  @Test
+  void get_shouldNotKeepFailedDecisions() {
+    // Arrange
+    UUID betId = UUID.randomUUID();
+
+    // Act & Assert
+    assertThatThrownBy(() -> cache.get(betId, id -> {
+      throw new IllegalStateException("Jackpot not found");
+    })).isInstanceOf(IllegalStateException.class);
+    assertThat(cache.get(betId, this::response).betId()).isEqualTo(betId);
+  }
+
+  @Test
+  void get_shouldDecideAgain_onceDecisionIsEvicted() {
+    // Arrange
+    UUID betId = UUID.randomUUID();
+    AtomicInteger decisions = new AtomicInteger();
+    cache.get(betId, id -> {
+      decisions.incrementAndGet();
+      return response(id);
+    });
+
+    // Act
+    cache.get(UUID.randomUUID(), this::response);
+    cache.get(UUID.randomUUID(), this::response);
+    cache.get(betId, id -> {
+      decisions.incrementAndGet();
+      return response(id);
+    });
+
+    // Assert
+    assertThat(decisions).hasValue(2);
+  }
+
+  private RewardResponse response(UUID betId) {
+    return new RewardResponse(betId, UUID.randomUUID(), UUID.randomUUID(), BigDecimal.ZERO, null,
+        "Sorry, no reward this time. Better luck next time!");
+  }
+}
@@ -0,0 +1,75 @@
+package com.sporty.jackpot.domain.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sporty.jackpot.domain.DecimalContributionEngine;
+import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.model.JackpotRules;
+import com.sporty.jackpot.domain.model.RewardType;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class JackpotPolicyRegistryTest {
+
+  private final JackpotPolicyRegistry registry =
+      new JackpotPolicyRegistry(new DecimalContributionEngine());
+
+  @Test
+  void register_shouldCompilePoliciesFromJackpotRules() {
+    // Arrange
+    JackpotRules rules = new JackpotRules(new BigDecimal("0.25"), null, null, null,
+        new BigDecimal("0.5"), null, null, null).withDefaults();
+    Jackpot jackpot = new Jackpot("Test Jackpot", new BigDecimal("1000.00"),
+        ContributionType.FIXED, RewardType.FIXED, rules);
+
+    // Act
+    JackpotPolicy policy = registry.register(jackpot);
+
+    // Assert
+    assertThat(policy.contribution().calculate(jackpot.getCurrentPool(), new BigDecimal("100.00")))
+        .isEqualByComparingTo("25.00");
+    assertThat(policy.reward().winChance(jackpot.getCurrentPool())).isEqualTo(0.5);
+  }
+
+  @Test
+  void forJackpot_shouldCompileOnceAndCache() {
+    // Arrange
+    Jackpot jackpot = new Jackpot("Test Jackpot", new BigDecimal("1000.00"),
+        ContributionType.VARIABLE, RewardType.VARIABLE);
+
+    // Act
+    JackpotPolicy first = registry.forJackpot(jackpot);
+    JackpotPolicy second = registry.forJackpot(jackpot);
+
+    // Assert
+    assertThat(first).isSameAs(second);
+    assertThat(first.contribution()).isInstanceOf(VariableContributionPolicy.class);
+    assertThat(first.reward()).isInstanceOf(VariableRewardPolicy.class);
+  }
+
+  @Test
+  void remove_shouldDropCompiledPolicy() {
+    // Arrange
+    Jackpot jackpot = new Jackpot("Test Jackpot", new BigDecimal("1000.00"),
+        ContributionType.FIXED, RewardType.FIXED);
+    JackpotPolicy registered = registry.register(jackpot);
+
+    // Act
+    registry.remove(jackpot.getJackpotId());
+
+    // Assert
+    assertThat(registry.forJackpot(jackpot)).isNotSameAs(registered);
+  }
+
+  @Test
+  void variableRewardPolicy_shouldReachCertaintyAtPoolLimit() {
+    // Arrange
+    RewardPolicy policy = new VariableRewardPolicy(new BigDecimal("1000.00"),
+        new BigDecimal("0.005"), new BigDecimal("0.001"), new BigDecimal("3"));
+
+    // Act & Assert
+    assertThat(policy.winChance(new BigDecimal("2000.00"))).isEqualTo(0.007);
+    assertThat(policy.winChance(new BigDecimal("3000.00"))).isEqualTo(1.0);
+  }
+}
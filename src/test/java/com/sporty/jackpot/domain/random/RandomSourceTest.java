@@ -0,0 +1,43 @@
+package com.sporty.jackpot.domain.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class RandomSourceTest {
+
+  @Test
+  void seededRandomSource_shouldReplaySameDraws_forSameSeed() {
+    // Arrange
+    SeededRandomSource first = new SeededRandomSource(42);
+    SeededRandomSource second = new SeededRandomSource(42);
+
+    // Act & Assert
+    for (int i = 0; i < 100; i++) {
+      assertThat(first.nextDouble()).isEqualTo(second.nextDouble());
+    }
+  }
+
+  @Test
+  void splittableRandomSource_shouldDrawFromSeparateStreamsPerThread() throws Exception {
+    // Arrange
+    SplittableRandomSource randomSource = new SplittableRandomSource();
+    Set<Double> firstDraws = ConcurrentHashMap.newKeySet();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    // Act
+    for (int i = 0; i < 8; i++) {
+      executor.submit(() -> firstDraws.add(randomSource.nextDouble()));
+    }
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+
+    // Assert
+    assertThat(firstDraws).hasSize(8).allSatisfy(draw -> assertThat(draw).isBetween(0.0, 1.0));
+  }
+}
@@ -2,18 +2,24 @@ package com.sporty.jackpot.infra.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.sporty.jackpot.domain.JackpotService;
 import com.sporty.jackpot.domain.model.Bet;
 import com.sporty.jackpot.domain.model.ContributionType;
 import com.sporty.jackpot.domain.model.Jackpot;
 import com.sporty.jackpot.domain.model.RewardType;
 import com.sporty.jackpot.domain.persistence.BetRepository;
+import com.sporty.jackpot.domain.persistence.ContributionLedgerRepository;
 import com.sporty.jackpot.domain.persistence.JackpotRepository;
 import com.sporty.jackpot.infra.api.model.JackpotRequest;
 import com.sporty.jackpot.infra.api.model.JackpotResponse;
 import com.sporty.jackpot.infra.api.model.RewardResponse;
+import com.sporty.jackpot.infra.messaging.events.BetMessage;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -45,6 +51,12 @@ class BetControllerAcceptanceTest {
   @Autowired
   private BetRepository betRepository;
 
+  @Autowired
+  private ContributionLedgerRepository contributionLedgerRepository;
+
+  @Autowired
+  private JackpotService jackpotService;
+
   private String getBaseUrl() {
     return "http://localhost:" + port + "/api/bets";
   }
@@ -113,7 +125,7 @@ class BetControllerAcceptanceTest {
     // Verify the jackpot was updated with the contribution
     Jackpot updatedJackpot = jackpotRepository.findById(jackpotId).orElseThrow();
     assertThat(updatedJackpot.getCurrentPool()).isGreaterThan(new BigDecimal("100.00"));
-    assertThat(updatedJackpot.getContributions()).hasSize(1);
+    assertThat(contributionLedgerRepository.count(jackpotId)).isEqualTo(1);
   }
 
   @Test
@@ -159,4 +171,40 @@ class BetControllerAcceptanceTest {
     // when the bet is not found (as per the current implementation)
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
   }
+
+  @Test
+  void awaitReward_shouldAnswerOnceBetIsProcessed() {
+    // Arrange
+    UUID betId = UUID.randomUUID();
+    BetMessage betMessage = new BetMessage(betId, UUID.randomUUID(), jackpotId,
+        new BigDecimal("100.00"), LocalDateTime.now());
+    // Processes the bet as the consumer would, while the request below is waiting
+    CompletableFuture.runAsync(() -> jackpotService.processBet(betMessage),
+        CompletableFuture.delayedExecutor(500, TimeUnit.MILLISECONDS));
+
+    // Act
+    ResponseEntity<RewardResponse> response = restTemplate.getForEntity(
+        getBaseUrl() + "/" + betId + "/reward/await?timeoutMs=10000",
+        RewardResponse.class
+    );
+
+    // Assert
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().betId()).isEqualTo(betId);
+    assertThat(response.getBody().jackpotId()).isEqualTo(jackpotId);
+  }
+
+  @Test
+  void awaitReward_shouldReturnAccepted_whenBetIsNotProcessedInTime() {
+    // Act
+    ResponseEntity<RewardResponse> response = restTemplate.getForEntity(
+        getBaseUrl() + "/" + UUID.randomUUID() + "/reward/await?timeoutMs=200",
+        RewardResponse.class
+    );
+
+    // Assert
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+    assertThat(response.getBody()).isNull();
+  }
 }
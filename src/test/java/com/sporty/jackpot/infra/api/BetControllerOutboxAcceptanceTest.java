@@ -0,0 +1,159 @@
+package com.sporty.jackpot.infra.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sporty.jackpot.domain.JackpotService;
+import com.sporty.jackpot.domain.model.Bet;
+import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.RewardType;
+import com.sporty.jackpot.domain.persistence.BetRepository;
+import com.sporty.jackpot.infra.api.model.JackpotRequest;
+import com.sporty.jackpot.infra.api.model.JackpotResponse;
+import com.sporty.jackpot.infra.api.model.RewardResponse;
+import com.sporty.jackpot.infra.messaging.BetProducer;
+import com.sporty.jackpot.infra.messaging.events.BetMessage;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class BetControllerOutboxAcceptanceTest {
+
+  @TempDir
+  private static Path outboxDirectory;
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Autowired
+  private JackpotService jackpotService;
+
+  @Autowired
+  private BetRepository betRepository;
+
+  // Stands in for the broker, relayed bets are processed as the consumer would
+  @MockitoBean
+  private BetProducer betProducer;
+
+  private UUID jackpotId;
+
+  @DynamicPropertySource
+  static void outboxProperties(DynamicPropertyRegistry registry) {
+    registry.add("jackpot.outbox.enabled", () -> true);
+    // Each context gets its own outbox, so no bets are left over from an earlier test
+    registry.add("jackpot.outbox.directory",
+        () -> outboxDirectory.resolve(UUID.randomUUID().toString()).toString());
+    registry.add("jackpot.outbox.fsync", () -> false);
+    registry.add("jackpot.outbox.retry-backoff", () -> "10ms");
+  }
+
+  private String getBaseUrl() {
+    return "http://localhost:" + port + "/api/bets";
+  }
+
+  @BeforeEach
+  void setUp() {
+    JackpotRequest jackpotRequest = new JackpotRequest(
+        "Test Jackpot",
+        new BigDecimal("1000.00"),
+        ContributionType.FIXED,
+        RewardType.FIXED
+    );
+    ResponseEntity<JackpotResponse> response = restTemplate.postForEntity(
+        "http://localhost:" + port + "/api/jackpots",
+        jackpotRequest,
+        JackpotResponse.class
+    );
+    jackpotId = Objects.requireNonNull(response.getBody()).id();
+
+    when(betProducer.sendBet(any())).thenAnswer(invocation -> {
+      jackpotService.processBet(invocation.getArgument(0));
+      return CompletableFuture.completedFuture(null);
+    });
+  }
+
+  @Test
+  void publishBet_shouldAnswerOnceTheBetIsInTheOutbox_andRelayIt() {
+    // Arrange
+    Bet bet = new Bet(null, UUID.randomUUID(), jackpotId, new BigDecimal("100.00"));
+
+    // Act
+    ResponseEntity<Bet> response = restTemplate.postForEntity(getBaseUrl(), bet, Bet.class);
+
+    // Assert
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    UUID betId = response.getBody().getBetId();
+    assertThat(betId).isNotNull();
+    verify(betProducer, timeout(5000)).sendBet(
+        argThat((BetMessage message) -> message.betRequestId().equals(betId)));
+  }
+
+  @Test
+  void publishBet_shouldKeepTheClientsBetId_andRefuseItForAnotherUser() {
+    // Arrange
+    Bet stored = new Bet(UUID.randomUUID(), UUID.randomUUID(), jackpotId,
+        new BigDecimal("100.00"));
+    betRepository.save(stored);
+    Bet retried = new Bet(stored.getBetId(), stored.getUserId(), jackpotId,
+        new BigDecimal("100.00"));
+    Bet otherUser = new Bet(stored.getBetId(), UUID.randomUUID(), jackpotId,
+        new BigDecimal("100.00"));
+
+    // Act
+    ResponseEntity<Bet> retriedResponse = restTemplate.postForEntity(getBaseUrl(), retried,
+        Bet.class);
+    ResponseEntity<Bet> otherUserResponse = restTemplate.postForEntity(getBaseUrl(), otherUser,
+        Bet.class);
+
+    // Assert
+    assertThat(retriedResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(Objects.requireNonNull(retriedResponse.getBody()).getBetId())
+        .isEqualTo(stored.getBetId());
+    assertThat(otherUserResponse.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+  }
+
+  @Test
+  void awaitReward_shouldAnswer_forABetAcceptedByTheOutbox() {
+    // Arrange
+    Bet bet = new Bet(null, UUID.randomUUID(), jackpotId, new BigDecimal("100.00"));
+    UUID betId = Objects.requireNonNull(
+        restTemplate.postForEntity(getBaseUrl(), bet, Bet.class).getBody()).getBetId();
+
+    // Act
+    ResponseEntity<RewardResponse> response = restTemplate.getForEntity(
+        getBaseUrl() + "/" + betId + "/reward/await?timeoutMs=10000",
+        RewardResponse.class
+    );
+
+    // Assert
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().betId()).isEqualTo(betId);
+    assertThat(response.getBody().jackpotId()).isEqualTo(jackpotId);
+  }
+}
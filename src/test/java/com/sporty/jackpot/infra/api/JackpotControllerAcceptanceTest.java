@@ -3,20 +3,25 @@ package com.sporty.jackpot.infra.api;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.JackpotRules;
 import com.sporty.jackpot.domain.model.RewardType;
 import com.sporty.jackpot.infra.api.model.JackpotRequest;
 import com.sporty.jackpot.infra.api.model.JackpotResponse;
 import java.math.BigDecimal;
+import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -65,6 +70,29 @@ class JackpotControllerAcceptanceTest {
     assertThat(response.getBody().rewardType()).isEqualTo(RewardType.FIXED);
   }
 
+  @Test
+  void create_shouldReturnBadRequest_whenRulesAreInvalid() {
+    // Arrange
+    JackpotRequest request = new JackpotRequest(
+        "Test Jackpot",
+        new BigDecimal("1000.00"),
+        ContributionType.VARIABLE,
+        RewardType.VARIABLE,
+        new JackpotRules(null, null, null, null, null, null, null, BigDecimal.ZERO)
+    );
+
+    // Act
+    ResponseEntity<String> response = restTemplate.postForEntity(
+        getBaseUrl(),
+        request,
+        String.class
+    );
+
+    // Assert
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(response.getBody()).contains("poolLimitMultiplier");
+  }
+
   @Test
   void getAll_shouldReturnAllJackpots() {
     // Arrange
@@ -173,4 +201,73 @@ class JackpotControllerAcceptanceTest {
 
     assertThat(getResponse.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
   }
+
+  @Test
+  void getAll_shouldPageWithCursorAndFilterByType() {
+    // Arrange
+    for (int i = 0; i < 3; i++) {
+      restTemplate.postForEntity(getBaseUrl(), new JackpotRequest("Fixed " + i,
+          new BigDecimal("1000.00"), ContributionType.FIXED, RewardType.VARIABLE),
+          JackpotResponse.class);
+    }
+    restTemplate.postForEntity(getBaseUrl(), new JackpotRequest("Variable",
+        new BigDecimal("1000.00"), ContributionType.VARIABLE, RewardType.VARIABLE),
+        JackpotResponse.class);
+
+    // Act
+    ResponseEntity<JackpotResponse[]> firstPage = restTemplate.getForEntity(
+        getBaseUrl() + "?contributionType=FIXED&rewardType=VARIABLE&size=2",
+        JackpotResponse[].class
+    );
+    String next = firstPage.getHeaders().getFirst(HttpHeaders.LINK);
+    ResponseEntity<JackpotResponse[]> secondPage = restTemplate.getForEntity(
+        URI.create(next.substring(next.indexOf('<') + 1, next.indexOf('>'))),
+        JackpotResponse[].class
+    );
+
+    // Assert
+    assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(firstPage.getBody()).hasSize(2);
+    assertThat(next).contains("after=" + firstPage.getBody()[1].id()).endsWith("rel=\"next\"");
+    assertThat(secondPage.getBody()).hasSize(1);
+    assertThat(secondPage.getHeaders().containsKey(HttpHeaders.LINK)).isFalse();
+    assertThat(Stream.concat(Arrays.stream(firstPage.getBody()), Arrays.stream(secondPage.getBody()))
+        .map(JackpotResponse::name))
+        .containsExactlyInAnyOrder("Fixed 0", "Fixed 1", "Fixed 2");
+  }
+
+  @Test
+  void getAll_shouldReturnNotModified_untilAJackpotChanges() {
+    // Arrange
+    ResponseEntity<String> listing = restTemplate.getForEntity(getBaseUrl(), String.class);
+    String etag = listing.getHeaders().getETag();
+    HttpHeaders headers = new HttpHeaders();
+    headers.setIfNoneMatch(etag);
+
+    // Act
+    ResponseEntity<String> unchanged = restTemplate.exchange(getBaseUrl(), HttpMethod.GET,
+        new HttpEntity<>(headers), String.class);
+    restTemplate.postForEntity(getBaseUrl(), new JackpotRequest("New Jackpot",
+        new BigDecimal("1000.00"), ContributionType.FIXED, RewardType.FIXED), JackpotResponse.class);
+    ResponseEntity<String> changed = restTemplate.exchange(getBaseUrl(), HttpMethod.GET,
+        new HttpEntity<>(headers), String.class);
+
+    // Assert
+    assertThat(etag).isNotNull();
+    assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(unchanged.getBody()).isNull();
+    assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(changed.getHeaders().getETag()).isNotEqualTo(etag);
+    assertThat(changed.getBody()).contains("New Jackpot");
+  }
+
+  @Test
+  void getAll_shouldReturnBadRequest_whenPageSizeIsOutOfRange() {
+    // Act
+    ResponseEntity<String> response = restTemplate.getForEntity(getBaseUrl() + "?size=0",
+        String.class);
+
+    // Assert
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+  }
 }
@@ -0,0 +1,132 @@
+package com.sporty.jackpot.infra.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sporty.jackpot.domain.DecimalContributionEngine;
+import com.sporty.jackpot.domain.JackpotCrudService;
+import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.RewardType;
+import com.sporty.jackpot.domain.persistence.JackpotRepository;
+import com.sporty.jackpot.domain.policy.JackpotPolicyRegistry;
+import com.sporty.jackpot.infra.api.model.JackpotRequest;
+import com.sporty.jackpot.infra.api.model.JackpotResponse;
+import com.sporty.jackpot.infra.persistence.ContributionLedgerInMemoryRepository;
+import com.sporty.jackpot.infra.persistence.JackpotInMemoryRepository;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+class JackpotSnapshotCacheTest {
+
+  private static final UUID FIXED_JACKPOT = UUID.fromString("73cada80-12e4-46b7-a0cb-a5eb99d4cafa");
+  private static final UUID VARIABLE_JACKPOT =
+      UUID.fromString("38b36029-44ea-4b38-b8cf-db64200dec3d");
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  private final JackpotRepository jackpotRepository = new JackpotInMemoryRepository();
+  private final JackpotCrudService jackpotCrudService = new JackpotCrudService(jackpotRepository,
+      new JackpotPolicyRegistry(new DecimalContributionEngine()),
+      new ContributionLedgerInMemoryRepository(1000, 10000));
+
+  @Test
+  void current_shouldReserializeOnlyChangedJackpots() throws Exception {
+    // Arrange
+    JackpotSnapshotCache cache = new JackpotSnapshotCache(jackpotCrudService, objectMapper,
+        Duration.ZERO);
+    JackpotSnapshotCache.Snapshot first = cache.current();
+    jackpotRepository.update(FIXED_JACKPOT, jackpot -> jackpot.setCurrentPool(
+        new BigDecimal("1234.50")));
+
+    // Act
+    JackpotSnapshotCache.Snapshot second = cache.current();
+
+    // Assert
+    assertThat(second.version()).isGreaterThan(first.version());
+    assertThat(objectMapper.readValue(second.jackpot(FIXED_JACKPOT).orElseThrow(),
+        JackpotResponse.class).currentPool()).isEqualByComparingTo("1234.50");
+    assertThat(second.jackpot(VARIABLE_JACKPOT).orElseThrow())
+        .isSameAs(first.jackpot(VARIABLE_JACKPOT).orElseThrow());
+    assertThat(objectMapper.readValue(second.listing(), JackpotResponse[].class))
+        .extracting(JackpotResponse::id)
+        .containsExactly(VARIABLE_JACKPOT, FIXED_JACKPOT);
+  }
+
+  @Test
+  void current_shouldKeepSnapshot_whileNothingChanged() {
+    // Arrange
+    JackpotSnapshotCache cache = new JackpotSnapshotCache(jackpotCrudService, objectMapper,
+        Duration.ZERO);
+
+    // Act
+    JackpotSnapshotCache.Snapshot first = cache.current();
+    JackpotSnapshotCache.Snapshot second = cache.current();
+
+    // Assert
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void current_shouldServeStaleSnapshot_untilMaxStalenessOrInvalidation() {
+    // Arrange
+    JackpotSnapshotCache cache = new JackpotSnapshotCache(jackpotCrudService, objectMapper,
+        Duration.ofHours(1));
+    JackpotSnapshotCache.Snapshot first = cache.current();
+    jackpotRepository.update(FIXED_JACKPOT, jackpot -> jackpot.setCurrentPool(BigDecimal.TEN));
+    JackpotResponse created = jackpotCrudService.create(new JackpotRequest("New Jackpot",
+        new BigDecimal("100.00"), ContributionType.FIXED, RewardType.FIXED));
+
+    // Act
+    JackpotSnapshotCache.Snapshot stale = cache.current();
+    cache.invalidate();
+    JackpotSnapshotCache.Snapshot refreshed = cache.current();
+
+    // Assert
+    assertThat(stale).isSameAs(first);
+    assertThat(stale.jackpot(created.id())).isEmpty();
+    assertThat(refreshed.jackpot(created.id())).isPresent();
+    assertThat(refreshed.version()).isEqualTo(jackpotRepository.version());
+  }
+
+  @Test
+  void current_shouldWaitForTheRefreshInProgress_whenInvalidated() throws Exception {
+    // Arrange
+    JackpotCrudService slowCrudService = spy(jackpotCrudService);
+    JackpotSnapshotCache cache = new JackpotSnapshotCache(slowCrudService, objectMapper,
+        Duration.ZERO);
+    cache.current();
+    CountDownLatch refreshing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      refreshing.countDown();
+      release.await();
+      return invocation.callRealMethod();
+    }).doCallRealMethod().when(slowCrudService).list(null, null, null);
+    jackpotRepository.update(FIXED_JACKPOT, jackpot -> jackpot.setCurrentPool(BigDecimal.TEN));
+    CompletableFuture.supplyAsync(cache::current);
+    refreshing.await(5, TimeUnit.SECONDS);
+    JackpotResponse created = jackpotCrudService.create(new JackpotRequest("New Jackpot",
+        new BigDecimal("100.00"), ContributionType.FIXED, RewardType.FIXED));
+    cache.invalidate();
+
+    // Act
+    CompletableFuture<JackpotSnapshotCache.Snapshot> read =
+        CompletableFuture.supplyAsync(cache::current);
+
+    // Assert
+    assertThatThrownBy(() -> read.get(200, TimeUnit.MILLISECONDS))
+        .isInstanceOf(TimeoutException.class);
+    release.countDown();
+    assertThat(read.get(5, TimeUnit.SECONDS).jackpot(created.id())).isPresent();
+  }
+}
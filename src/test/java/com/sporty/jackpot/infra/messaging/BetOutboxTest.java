@@ -0,0 +1,151 @@
+package com.sporty.jackpot.infra.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sporty.jackpot.infra.messaging.events.BetMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.apache.kafka.common.KafkaException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.util.unit.DataSize;
+
+class BetOutboxTest {
+
+  @TempDir
+  private Path directory;
+
+  private final BetProducer betProducer = mock(BetProducer.class);
+  private BetOutbox betOutbox;
+
+  @AfterEach
+  void tearDown() {
+    if (betOutbox != null) {
+      betOutbox.close();
+    }
+  }
+
+  @Test
+  void publish_shouldAcceptBetLocally_andRelayItToTheBroker() {
+    // Arrange
+    when(betProducer.sendBet(any())).thenReturn(CompletableFuture.completedFuture(null));
+    betOutbox = betOutbox(true, 10);
+    BetMessage betMessage = betMessage();
+
+    // Act
+    CompletableFuture<Void> accepted = betOutbox.publish(betMessage);
+
+    // Assert
+    assertThat(accepted).isCompleted();
+    verify(betProducer, timeout(5000)).sendBet(betMessage);
+  }
+
+  @Test
+  void publish_shouldRetryTheBatch_untilTheBrokerAcknowledgesIt() {
+    // Arrange
+    when(betProducer.sendBet(any()))
+        .thenReturn(CompletableFuture.failedFuture(new KafkaException("Broker unavailable")))
+        .thenReturn(CompletableFuture.completedFuture(null));
+    betOutbox = betOutbox(true, 10);
+    BetMessage betMessage = betMessage();
+
+    // Act
+    betOutbox.publish(betMessage);
+
+    // Assert
+    verify(betProducer, timeout(5000).times(2)).sendBet(betMessage);
+  }
+
+  @Test
+  void publish_shouldRejectBet_whenTheOutboxIsFull() {
+    // Arrange
+    when(betProducer.sendBet(any())).thenReturn(new CompletableFuture<>());
+    betOutbox = betOutbox(true, 1);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    betOutbox.bindTo(registry);
+
+    // Act
+    CompletableFuture<Void> first = betOutbox.publish(betMessage());
+    CompletableFuture<Void> second = betOutbox.publish(betMessage());
+
+    // Assert
+    assertThat(first).isCompleted();
+    assertThatThrownBy(second::get)
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(BetPublishRejectedException.class);
+    assertThat(registry.get("jackpot.outbox.depth").gauge().value()).isEqualTo(1);
+  }
+
+  @Test
+  void constructor_shouldRelayBetsLeftInTheOutbox_afterARestart() {
+    // Arrange
+    when(betProducer.sendBet(any())).thenReturn(new CompletableFuture<>());
+    BetMessage betMessage = betMessage();
+    BetOutbox stopped = betOutbox(true, 10);
+    stopped.publish(betMessage);
+    stopped.close();
+    BetProducer restartedProducer = mock(BetProducer.class);
+    when(restartedProducer.sendBet(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+    // Act
+    betOutbox = new BetOutbox(true, directory, DataSize.ofKilobytes(64), false, 10, 100,
+        Duration.ofMillis(10), Duration.ofSeconds(5), 100, restartedProducer);
+
+    // Assert
+    verify(restartedProducer, timeout(5000)).sendBet(betMessage);
+  }
+
+  @Test
+  void publish_shouldSendStraightToTheBroker_whenDisabled() {
+    // Arrange
+    CompletableFuture<SendResult<String, BetMessage>> ack = new CompletableFuture<>();
+    when(betProducer.sendBet(any())).thenReturn(ack);
+    betOutbox = betOutbox(false, 10);
+    BetMessage betMessage = betMessage();
+
+    // Act
+    CompletableFuture<Void> published = betOutbox.publish(betMessage);
+
+    // Assert
+    verify(betProducer, times(1)).sendBet(betMessage);
+    assertThat(published).isNotDone();
+    ack.complete(null);
+    assertThat(published).isCompleted();
+  }
+
+  @Test
+  void constructor_shouldRejectBatchSize_largerThanTheProducerLetsInFlight() {
+    // Act & Assert
+    assertThatThrownBy(() -> new BetOutbox(true, directory, DataSize.ofKilobytes(64), false, 10,
+        101, Duration.ofMillis(10), Duration.ofSeconds(5), 100, betProducer))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("jackpot.outbox.batch-size");
+  }
+
+  private BetOutbox betOutbox(boolean enabled, int maxDepth) {
+    return new BetOutbox(enabled, directory, DataSize.ofKilobytes(64), false, maxDepth, 100,
+        Duration.ofMillis(10), Duration.ofSeconds(5), 100, betProducer);
+  }
+
+  // The outbox keeps createdAt at millisecond precision
+  private BetMessage betMessage() {
+    return new BetMessage(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+        new BigDecimal("25.50"), LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+  }
+}
@@ -0,0 +1,118 @@
+package com.sporty.jackpot.infra.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sporty.jackpot.infra.messaging.events.BetMessage;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.common.KafkaException;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+class BetProducerTest {
+
+  @SuppressWarnings("unchecked")
+  private final KafkaTemplate<String, BetMessage> kafkaTemplate = mock(KafkaTemplate.class);
+
+  @Test
+  void sendBet_shouldKeyMessageByJackpotId() {
+    // Arrange
+    BetProducer betProducer = new BetProducer(kafkaTemplate, Set.of(), 1, 10);
+    BetMessage betMessage = betMessage(UUID.randomUUID());
+    when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+
+    // Act
+    betProducer.sendBet(betMessage);
+
+    // Assert
+    verify(kafkaTemplate).send("jackpot-bets", betMessage.jackpotId().toString(), betMessage);
+  }
+
+  @Test
+  void partitionKey_shouldSpreadHotJackpotOverShards() {
+    // Arrange
+    UUID hotJackpotId = UUID.randomUUID();
+    BetProducer betProducer = new BetProducer(kafkaTemplate, Set.of(hotJackpotId), 4, 10);
+
+    // Act
+    Set<String> keys = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      keys.add(betProducer.partitionKey(betMessage(hotJackpotId)));
+    }
+
+    // Assert
+    assertThat(keys).containsExactlyInAnyOrder(
+        hotJackpotId + "#0", hotJackpotId + "#1", hotJackpotId + "#2", hotJackpotId + "#3");
+  }
+
+  @Test
+  void partitionKey_shouldNotShardRegularJackpots() {
+    // Arrange
+    UUID jackpotId = UUID.randomUUID();
+    BetProducer betProducer = new BetProducer(kafkaTemplate, Set.of(UUID.randomUUID()), 4, 10);
+
+    // Act
+    String key = betProducer.partitionKey(betMessage(jackpotId));
+
+    // Assert
+    assertThat(key).isEqualTo(jackpotId.toString());
+  }
+
+  @Test
+  void sendBet_shouldRejectBet_whenMaxInFlightIsReached() {
+    // Arrange
+    BetProducer betProducer = new BetProducer(kafkaTemplate, Set.of(), 1, 1);
+    CompletableFuture<SendResult<String, BetMessage>> pendingAck = new CompletableFuture<>();
+    when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(pendingAck);
+
+    // Act
+    CompletableFuture<SendResult<String, BetMessage>> first =
+        betProducer.sendBet(betMessage(UUID.randomUUID()));
+    CompletableFuture<SendResult<String, BetMessage>> rejected =
+        betProducer.sendBet(betMessage(UUID.randomUUID()));
+    pendingAck.complete(null);
+    CompletableFuture<SendResult<String, BetMessage>> afterAck =
+        betProducer.sendBet(betMessage(UUID.randomUUID()));
+
+    // Assert
+    assertThat(first).isDone();
+    assertThat(rejected).isCompletedExceptionally();
+    assertThatThrownBy(rejected::join).hasCauseInstanceOf(BetPublishRejectedException.class);
+    assertThat(afterAck).isNotCompletedExceptionally();
+  }
+
+  @Test
+  void sendBet_shouldReturnFailedFutureAndReleaseSlot_whenSendThrows() {
+    // Arrange
+    BetProducer betProducer = new BetProducer(kafkaTemplate, Set.of(), 1, 1);
+    when(kafkaTemplate.send(anyString(), anyString(), any()))
+        .thenThrow(new KafkaException("Broker unavailable"))
+        .thenReturn(new CompletableFuture<>());
+
+    // Act
+    CompletableFuture<SendResult<String, BetMessage>> failed =
+        betProducer.sendBet(betMessage(UUID.randomUUID()));
+    CompletableFuture<SendResult<String, BetMessage>> next =
+        betProducer.sendBet(betMessage(UUID.randomUUID()));
+
+    // Assert
+    assertThatThrownBy(failed::join).hasCauseInstanceOf(KafkaException.class);
+    assertThat(next).isNotCompletedExceptionally();
+  }
+
+  private BetMessage betMessage(UUID jackpotId) {
+    return new BetMessage(UUID.randomUUID(), UUID.randomUUID(), jackpotId,
+        new BigDecimal("10.00"), LocalDateTime.now());
+  }
+}
@@ -0,0 +1,130 @@
+package com.sporty.jackpot.infra.messaging;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.sporty.jackpot.domain.StateBarrier;
+import com.sporty.jackpot.infra.persistence.StateCheckpointStore;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+
+class ConsumerCheckpointerTest {
+
+  private static final TopicPartition PARTITION_0 = new TopicPartition("jackpot-bets", 0);
+  private static final TopicPartition PARTITION_1 = new TopicPartition("jackpot-bets", 1);
+
+  private final StateCheckpointStore store = mock(StateCheckpointStore.class);
+  private final ConsumerSeekCallback callback = mock(ConsumerSeekCallback.class);
+
+  @Test
+  void onPartitionsAssigned_shouldSeekToRestoredOffsets_andReadUnknownPartitionsFromStart() {
+    // Arrange
+    when(store.restore()).thenReturn(Optional.of(Map.of(PARTITION_0, 42L)));
+    ConsumerCheckpointer checkpointer = new ConsumerCheckpointer(true, store,
+        new StateBarrier(true));
+
+    // Act
+    checkpointer.onPartitionsAssigned(List.of(PARTITION_0, PARTITION_1), callback);
+
+    // Assert
+    verify(callback).seek("jackpot-bets", 0, 42L);
+    verify(callback).seekToBeginning(List.of(PARTITION_1));
+  }
+
+  @Test
+  void onPartitionsAssigned_shouldKeepCommittedOffsets_whenNoCheckpointExists() {
+    // Arrange
+    when(store.restore()).thenReturn(Optional.empty());
+    ConsumerCheckpointer checkpointer = new ConsumerCheckpointer(true, store,
+        new StateBarrier(true));
+
+    // Act
+    checkpointer.onPartitionsAssigned(List.of(PARTITION_0), callback);
+
+    // Assert
+    verifyNoInteractions(callback);
+  }
+
+  @Test
+  void checkpoint_shouldWriteTheOffsetAfterTheLastProcessedRecord() {
+    // Arrange
+    when(store.restore()).thenReturn(Optional.of(Map.of(PARTITION_0, 10L)));
+    ConsumerCheckpointer checkpointer = new ConsumerCheckpointer(true, store,
+        new StateBarrier(true));
+
+    // Act
+    checkpointer.processed("jackpot-bets", 0, 10);
+    checkpointer.processed(List.of("jackpot-bets", "jackpot-bets", "jackpot-bets"),
+        List.of(1, 0, 1), List.of(5L, 11L, 6L));
+    // A redelivered record does not move the offset back
+    checkpointer.processed("jackpot-bets", 0, 3);
+    checkpointer.checkpoint();
+
+    // Assert
+    verify(store).capture(Map.of(PARTITION_0, 12L, PARTITION_1, 7L));
+  }
+
+  @Test
+  void checkpoint_shouldWriteTheCapturedState_withoutHoldingUpProcessing() {
+    // Arrange
+    StateBarrier stateBarrier = new StateBarrier(true);
+    StateCheckpointStore.Checkpoint captured =
+        new StateCheckpointStore.Checkpoint(Map.of(PARTITION_0, 1L), List.of());
+    when(store.restore()).thenReturn(Optional.empty());
+    when(store.capture(any())).thenReturn(captured);
+    // Bet processing on another thread still gets through while the file is written
+    doAnswer(invocation -> CompletableFuture.supplyAsync(() -> stateBarrier.shared(() -> true))
+        .get(5, TimeUnit.SECONDS)).when(store).write(any());
+    ConsumerCheckpointer checkpointer = new ConsumerCheckpointer(true, store, stateBarrier);
+
+    // Act
+    checkpointer.checkpoint();
+
+    // Assert
+    verify(store).write(captured);
+  }
+
+  @Test
+  void constructor_shouldDisableCheckpoints_withoutACheckpointStore() {
+    // Arrange
+    ConsumerCheckpointer checkpointer = new ConsumerCheckpointer(true, null,
+        new StateBarrier(true));
+
+    // Act
+    checkpointer.processed("jackpot-bets", 0, 10);
+    checkpointer.onPartitionsAssigned(List.of(PARTITION_0), callback);
+    checkpointer.close();
+
+    // Assert
+    verifyNoInteractions(callback);
+  }
+
+  @Test
+  void constructor_shouldNeitherRestoreNorSeek_whenDisabled() {
+    // Arrange
+    ConsumerCheckpointer checkpointer = new ConsumerCheckpointer(false, store,
+        new StateBarrier(true));
+
+    // Act
+    checkpointer.processed("jackpot-bets", 0, 10);
+    checkpointer.onPartitionsAssigned(List.of(PARTITION_0), callback);
+    checkpointer.close();
+
+    // Assert
+    verify(store, never()).restore();
+    verify(store, never()).capture(any());
+    verify(store, never()).write(any());
+    verifyNoInteractions(callback);
+  }
+}
@@ -0,0 +1,46 @@
+package com.sporty.jackpot.infra.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.Test;
+
+class ProducerProfileTest {
+
+  @Test
+  void throughputProfile_shouldBatchCompressAndStayIdempotent() {
+    // Act
+    Map<String, Object> settings = ProducerProfile.THROUGHPUT.settings();
+
+    // Assert
+    assertThat(settings.get(ProducerConfig.LINGER_MS_CONFIG)).isEqualTo(20);
+    assertThat(settings.get(ProducerConfig.COMPRESSION_TYPE_CONFIG)).isEqualTo("lz4");
+    // Idempotence is only allowed with acks=all and at most 5 in-flight requests
+    assertThat(settings.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG)).isEqualTo(true);
+    assertThat(settings.get(ProducerConfig.ACKS_CONFIG)).isEqualTo("all");
+    assertThat((int) settings.get(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION))
+        .isLessThanOrEqualTo(5);
+  }
+
+  @Test
+  void latencyProfile_shouldSendWithoutLinger() {
+    // Act
+    Map<String, Object> settings = ProducerProfile.LATENCY.settings();
+
+    // Assert
+    assertThat(settings.get(ProducerConfig.LINGER_MS_CONFIG)).isEqualTo(0);
+    assertThat(settings.get(ProducerConfig.COMPRESSION_TYPE_CONFIG)).isEqualTo("none");
+    assertThat(settings.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG)).isEqualTo(false);
+  }
+
+  @Test
+  void profiles_shouldBoundHowLongASendBlocks() {
+    // Act & Assert
+    // The producer default of 60s would hold the request thread while the broker is unreachable
+    for (ProducerProfile profile : ProducerProfile.values()) {
+      assertThat((int) profile.settings().get(ProducerConfig.MAX_BLOCK_MS_CONFIG))
+          .isLessThanOrEqualTo(1000);
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.sporty.jackpot.infra.messaging.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sporty.jackpot.infra.messaging.events.BetMessage;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+class BetMessageBinaryCodecTest {
+
+  private final BetMessageBinarySerializer serializer = new BetMessageBinarySerializer();
+  private final BetMessageBinaryDeserializer deserializer = new BetMessageBinaryDeserializer();
+
+  @Test
+  void deserialize_shouldRestoreSerializedMessage() {
+    // Arrange
+    BetMessage betMessage = new BetMessage(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+        new BigDecimal("12.345"), LocalDateTime.of(2025, 9, 1, 10, 15, 30, 123_000_000));
+
+    // Act
+    byte[] data = serializer.serialize("jackpot-bets", betMessage);
+    BetMessage result = deserializer.deserialize("jackpot-bets", data);
+
+    // Assert
+    assertThat(data).hasSize(BetMessageBinaryFormat.SIZE);
+    assertThat(result).isEqualTo(betMessage);
+  }
+
+  @Test
+  void deserialize_shouldRestoreNullFields() {
+    // Arrange
+    BetMessage betMessage = new BetMessage(UUID.randomUUID(), null, UUID.randomUUID(), null, null);
+
+    // Act
+    BetMessage result = deserializer.deserialize("jackpot-bets",
+        serializer.serialize("jackpot-bets", betMessage));
+
+    // Assert
+    assertThat(result).isEqualTo(betMessage);
+  }
+
+  @Test
+  void deserialize_shouldReadJsonRecords() {
+    // Arrange
+    BetMessage betMessage = new BetMessage(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+        new BigDecimal("50.00"), LocalDateTime.of(2025, 9, 1, 10, 15, 30));
+    byte[] json;
+    try (JsonSerializer<BetMessage> jsonSerializer = new JsonSerializer<>()) {
+      json = jsonSerializer.serialize("jackpot-bets", betMessage);
+    }
+
+    // Act
+    BetMessage result = deserializer.deserialize("jackpot-bets", json);
+
+    // Assert
+    assertThat(result).isEqualTo(betMessage);
+  }
+
+  @Test
+  void serialize_shouldRejectAmountNotFittingScaledLong() {
+    // Arrange
+    BetMessage betMessage = new BetMessage(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+        new BigDecimal("1e30").setScale(2), LocalDateTime.now());
+
+    // Act & Assert
+    assertThatThrownBy(() -> serializer.serialize("jackpot-bets", betMessage))
+        .isInstanceOf(SerializationException.class);
+  }
+
+  @Test
+  void deserialize_shouldRejectUnknownVersion() {
+    // Arrange
+    byte[] data = new byte[BetMessageBinaryFormat.SIZE];
+    data[0] = 2;
+
+    // Act & Assert
+    assertThatThrownBy(() -> deserializer.deserialize("jackpot-bets", data))
+        .isInstanceOf(SerializationException.class);
+  }
+}
@@ -74,6 +74,23 @@ class BetRepositoryTest {
         .containsExactlyInAnyOrder(new BigDecimal("25.00"), new BigDecimal("75.00"));
   }
 
+  @Test
+  void markRewardEvaluated_shouldFlagTheBetOnlyOnce() {
+    // Arrange
+    Bet bet = new Bet(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("10.00"));
+    betRepository.save(bet);
+
+    // Act
+    boolean first = betRepository.markRewardEvaluated(bet.getBetId());
+    boolean second = betRepository.markRewardEvaluated(bet.getBetId());
+
+    // Assert
+    assertThat(first).isTrue();
+    assertThat(second).isFalse();
+    assertThat(betRepository.findById(bet.getBetId()).orElseThrow().isRewardEvaluated()).isTrue();
+    assertThat(betRepository.markRewardEvaluated(UUID.randomUUID())).isFalse();
+  }
+
   @Test
   void deleteById_shouldRemoveBetFromDatabase() {
     // Arrange
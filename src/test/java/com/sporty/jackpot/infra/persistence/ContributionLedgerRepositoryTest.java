@@ -0,0 +1,91 @@
+package com.sporty.jackpot.infra.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sporty.jackpot.domain.model.Contribution;
+import com.sporty.jackpot.domain.model.PoolSnapshot;
+import com.sporty.jackpot.domain.persistence.ContributionLedgerRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ContributionLedgerRepositoryTest {
+
+  private final ContributionLedgerRepository ledgerRepository =
+      new ContributionLedgerInMemoryRepository(3, 5);
+
+  @Test
+  void findByJackpotId_shouldReturnContributionsPagedInAppendOrder() {
+    // Arrange
+    UUID jackpotId = UUID.randomUUID();
+    for (int i = 1; i <= 4; i++) {
+      ledgerRepository.append(jackpotId, contribution(i), BigDecimal.valueOf(100 + i));
+    }
+
+    // Act
+    List<Contribution> firstPage = ledgerRepository.findByJackpotId(jackpotId, 0, 3);
+    List<Contribution> secondPage = ledgerRepository.findByJackpotId(jackpotId, 1, 3);
+
+    // Assert
+    assertThat(firstPage).extracting("contributionAmount")
+        .containsExactly(BigDecimal.valueOf(1), BigDecimal.valueOf(2), BigDecimal.valueOf(3));
+    assertThat(secondPage).extracting("contributionAmount")
+        .containsExactly(BigDecimal.valueOf(4));
+  }
+
+  @Test
+  void append_shouldTakePoolSnapshot_everySnapshotInterval() {
+    // Arrange
+    UUID jackpotId = UUID.randomUUID();
+
+    // Act
+    for (int i = 1; i <= 4; i++) {
+      ledgerRepository.append(jackpotId, contribution(i), BigDecimal.valueOf(100 + i));
+    }
+
+    // Assert
+    Optional<PoolSnapshot> snapshot = ledgerRepository.findLatestSnapshot(jackpotId);
+    assertThat(snapshot).isPresent();
+    assertThat(snapshot.get().getSequence()).isEqualTo(3);
+    assertThat(snapshot.get().getPool()).isEqualByComparingTo("103");
+  }
+
+  @Test
+  void append_shouldCompactEntriesCoveredBySnapshot_whenMaxRetainedIsExceeded() {
+    // Arrange
+    UUID jackpotId = UUID.randomUUID();
+
+    // Act
+    for (int i = 1; i <= 6; i++) {
+      ledgerRepository.append(jackpotId, contribution(i), BigDecimal.valueOf(100 + i));
+    }
+
+    // Assert
+    assertThat(ledgerRepository.count(jackpotId)).isEqualTo(0);
+    assertThat(ledgerRepository.findLatestSnapshot(jackpotId).orElseThrow().getPool())
+        .isEqualByComparingTo("106");
+  }
+
+  @Test
+  void compact_shouldKeepContributionsNewerThanSnapshot() {
+    // Arrange
+    UUID jackpotId = UUID.randomUUID();
+    for (int i = 1; i <= 4; i++) {
+      ledgerRepository.append(jackpotId, contribution(i), BigDecimal.valueOf(100 + i));
+    }
+
+    // Act
+    int dropped = ledgerRepository.compact(jackpotId);
+
+    // Assert
+    assertThat(dropped).isEqualTo(3);
+    assertThat(ledgerRepository.findByJackpotId(jackpotId, 0, 10)).extracting("contributionAmount")
+        .containsExactly(BigDecimal.valueOf(4));
+  }
+
+  private Contribution contribution(int amount) {
+    return new Contribution(UUID.randomUUID(), BigDecimal.valueOf(amount));
+  }
+}
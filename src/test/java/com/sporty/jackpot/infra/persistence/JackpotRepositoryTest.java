@@ -2,13 +2,22 @@ package com.sporty.jackpot.infra.persistence;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.sporty.jackpot.domain.model.Contribution;
 import com.sporty.jackpot.domain.model.ContributionType;
 import com.sporty.jackpot.domain.model.Jackpot;
 import com.sporty.jackpot.domain.model.RewardType;
 import com.sporty.jackpot.domain.persistence.JackpotRepository;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 
 class JackpotRepositoryTest {
@@ -80,6 +89,50 @@ class JackpotRepositoryTest {
         "Jackpot 2");
   }
 
+  @Test
+  void findAllAfter_shouldListJackpotsInIdOrder_afterTheGivenId() {
+    // Arrange
+    for (int i = 0; i < 5; i++) {
+      jackpotRepository.save(new Jackpot("Jackpot " + i, new BigDecimal("100.00"),
+          ContributionType.FIXED, RewardType.FIXED));
+    }
+    List<UUID> ids = jackpotRepository.findAllAfter(null).map(Jackpot::getJackpotId).toList();
+
+    // Act
+    List<UUID> afterThird = jackpotRepository.findAllAfter(ids.get(2))
+        .map(Jackpot::getJackpotId)
+        .toList();
+
+    // Assert
+    assertThat(ids).hasSize(7).isSorted().doesNotHaveDuplicates();
+    assertThat(afterThird).containsExactlyElementsOf(ids.subList(3, 7));
+  }
+
+  @Test
+  void version_shouldChangeOnEveryWrite() {
+    // Arrange
+    Jackpot jackpot = new Jackpot("Jackpot", new BigDecimal("100.00"), ContributionType.FIXED,
+        RewardType.FIXED);
+    long initial = jackpotRepository.version();
+
+    // Act
+    jackpotRepository.save(jackpot);
+    long afterSave = jackpotRepository.version();
+    jackpotRepository.update(jackpot.getJackpotId(), j -> j.setCurrentPool(BigDecimal.TEN));
+    long afterUpdate = jackpotRepository.version();
+    jackpotRepository.update(jackpot.getJackpotId(), Jackpot::claimPool);
+    long afterClaim = jackpotRepository.version();
+    jackpotRepository.delete(jackpot.getJackpotId());
+    long afterDelete = jackpotRepository.version();
+    jackpotRepository.delete(jackpot.getJackpotId());
+
+    // Assert
+    assertThat(List.of(initial, afterSave, afterUpdate, afterClaim, afterDelete))
+        .isSorted()
+        .doesNotHaveDuplicates();
+    assertThat(jackpotRepository.version()).isEqualTo(afterDelete);
+  }
+
   @Test
   void deleteById_shouldRemoveJackpotFromDatabase() {
     // Arrange
@@ -94,4 +147,142 @@ class JackpotRepositoryTest {
     // Assert
     assertThat(foundJackpot).isNotPresent();
   }
+
+  @Test
+  void update_shouldApplyChangeToStoredJackpot() {
+    // Arrange
+    Jackpot jackpot = new Jackpot("Jackpot to update", new BigDecimal("100.00"),
+        ContributionType.FIXED, RewardType.FIXED);
+    jackpotRepository.save(jackpot);
+
+    // Act
+    Optional<Jackpot> updated = jackpotRepository.update(jackpot.getJackpotId(),
+        j -> j.setCurrentPool(new BigDecimal("150.00")));
+
+    // Assert
+    assertThat(updated).isPresent();
+    assertThat(jackpotRepository.findById(jackpot.getJackpotId()).orElseThrow().getCurrentPool())
+        .isEqualByComparingTo("150.00");
+  }
+
+  @Test
+  void update_shouldReturnEmpty_whenJackpotDoesNotExist() {
+    // Act
+    Optional<Jackpot> updated = jackpotRepository.update(UUID.randomUUID(),
+        j -> j.setCurrentPool(BigDecimal.ONE));
+
+    // Assert
+    assertThat(updated).isNotPresent();
+  }
+
+  @Test
+  void update_shouldNotLoseConcurrentIncrements() throws InterruptedException {
+    // Arrange
+    Jackpot jackpot = new Jackpot("Hot Jackpot", BigDecimal.ZERO, ContributionType.FIXED,
+        RewardType.FIXED);
+    jackpotRepository.save(jackpot);
+    int threads = 8;
+    int incrementsPerThread = 1000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+
+    // Act
+    for (int t = 0; t < threads; t++) {
+      executor.submit(() -> {
+        start.await();
+        for (int i = 0; i < incrementsPerThread; i++) {
+          jackpotRepository.update(jackpot.getJackpotId(),
+              j -> j.setCurrentPool(j.getCurrentPool().add(BigDecimal.ONE)));
+        }
+        return null;
+      });
+    }
+    start.countDown();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+    // Assert
+    assertThat(jackpotRepository.findById(jackpot.getJackpotId()).orElseThrow().getCurrentPool())
+        .isEqualByComparingTo(BigDecimal.valueOf((long) threads * incrementsPerThread));
+  }
+
+  @Test
+  void addToPool_shouldAddAmount_andPassThePoolAfterToTheRecorder() {
+    // Arrange
+    Jackpot jackpot = new Jackpot("Test Jackpot", new BigDecimal("1000.00"),
+        ContributionType.FIXED, RewardType.FIXED);
+    jackpotRepository.save(jackpot);
+    List<BigDecimal> recorded = new ArrayList<>();
+
+    // Act
+    Optional<BigDecimal> poolAfter = jackpotRepository.addToPool(jackpot.getJackpotId(),
+        new BigDecimal("25.50"), recorded::add);
+
+    // Assert
+    assertThat(poolAfter).contains(new BigDecimal("1025.50"));
+    assertThat(recorded).containsExactly(new BigDecimal("1025.50"));
+    assertThat(jackpot.getCurrentPool()).isEqualTo(new BigDecimal("1025.50"));
+    assertThat(jackpotRepository.addToPool(UUID.randomUUID(), BigDecimal.ONE, recorded::add))
+        .isEmpty();
+  }
+
+  @Test
+  void update_shouldNotLoseOrDoublePayContributions_underConcurrentClaims() throws Exception {
+    // Arrange
+    BigDecimal initialPool = new BigDecimal("100.00");
+    Jackpot jackpot = new Jackpot("Hot Jackpot", initialPool, ContributionType.FIXED,
+        RewardType.FIXED);
+    jackpotRepository.save(jackpot);
+    int contributors = 8;
+    int contributionsPerThread = 2000;
+    int claimers = 4;
+    int claimsPerThread = 500;
+    ExecutorService executor = Executors.newFixedThreadPool(contributors + claimers);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<BigDecimal>> claims = new ArrayList<>();
+
+    // Act
+    for (int t = 0; t < contributors; t++) {
+      executor.submit(() -> {
+        start.await();
+        for (int i = 0; i < contributionsPerThread; i++) {
+          jackpotRepository.update(jackpot.getJackpotId(), j -> j.addContribution(
+              new Contribution(UUID.randomUUID(), new BigDecimal("0.01"))));
+        }
+        return null;
+      });
+    }
+    for (int t = 0; t < claimers; t++) {
+      claims.add(executor.submit(() -> {
+        start.await();
+        BigDecimal claimed = BigDecimal.ZERO;
+        for (int i = 0; i < claimsPerThread; i++) {
+          claimed = claimed.add(claim(jackpot.getJackpotId()));
+        }
+        return claimed;
+      }));
+    }
+    start.countDown();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+    // Assert
+    // Every claim pays the initial pool plus the contributions since the previous claim
+    BigDecimal paid = BigDecimal.ZERO;
+    for (Future<BigDecimal> claim : claims) {
+      paid = paid.add(claim.get());
+    }
+    int claimCount = claimers * claimsPerThread;
+    BigDecimal contributed = new BigDecimal("0.01")
+        .multiply(BigDecimal.valueOf((long) contributors * contributionsPerThread));
+    assertThat(paid.add(jackpot.getCurrentPool()))
+        .isEqualByComparingTo(initialPool.multiply(BigDecimal.valueOf(claimCount + 1))
+            .add(contributed));
+  }
+
+  private BigDecimal claim(UUID jackpotId) {
+    AtomicReference<BigDecimal> claimed = new AtomicReference<>();
+    jackpotRepository.update(jackpotId, jackpot -> claimed.set(jackpot.claimPool()));
+    return claimed.get();
+  }
 }
@@ -0,0 +1,188 @@
+package com.sporty.jackpot.infra.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sporty.jackpot.domain.model.Contribution;
+import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.model.JackpotRules;
+import com.sporty.jackpot.domain.model.RewardType;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class JackpotWalRepositoryTest {
+
+  private static final UUID FIXED_JACKPOT = UUID.fromString("73cada80-12e4-46b7-a0cb-a5eb99d4cafa");
+
+  @TempDir
+  Path directory;
+
+  private final List<JackpotWalRepository> opened = new ArrayList<>();
+
+  // Background snapshots must finish before the directory is deleted
+  @AfterEach
+  void tearDown() {
+    opened.forEach(JackpotWalRepository::close);
+  }
+
+  @Test
+  void constructor_shouldSeedDefaultJackpots_onFirstStart() {
+    // Act
+    JackpotWalRepository repository = open(1000);
+
+    // Assert
+    assertThat(repository.findAll()).extracting(Jackpot::getName)
+        .containsExactlyInAnyOrder("Super Fixed Jackpot", "Super Variable Jackpot");
+  }
+
+  @Test
+  void constructor_shouldRecoverChangesFromTheLog_afterACrash() {
+    // Arrange
+    JackpotWalRepository repository = open(1000);
+    JackpotRules rules = new JackpotRules(new BigDecimal("0.15"), null, null, null, null, null,
+        null, new BigDecimal("5")).withDefaults();
+    Jackpot created = new Jackpot("Persistent Jackpot", new BigDecimal("500.00"),
+        ContributionType.VARIABLE, RewardType.VARIABLE, rules);
+    repository.save(created);
+    repository.update(created.getJackpotId(), jackpot -> jackpot.setCurrentPool(
+        new BigDecimal("612.3456")));
+    repository.update(FIXED_JACKPOT, Jackpot::claimPool);
+    repository.update(FIXED_JACKPOT, jackpot -> jackpot.setCurrentPool(new BigDecimal("1000.10")));
+    repository.delete(UUID.fromString("38b36029-44ea-4b38-b8cf-db64200dec3d"));
+
+    // Act
+    // No close, as if the process had died
+    JackpotWalRepository recovered = open(1000);
+
+    // Assert
+    assertThat(recovered.findAll()).hasSize(2);
+    Jackpot jackpot = recovered.findById(created.getJackpotId()).orElseThrow();
+    assertThat(jackpot.getName()).isEqualTo("Persistent Jackpot");
+    assertThat(jackpot.getCurrentPool()).isEqualTo(new BigDecimal("612.3456"));
+    assertThat(jackpot.getInitialPool()).isEqualTo(new BigDecimal("500.00"));
+    assertThat(jackpot.getCreatedAt()).isEqualTo(created.getCreatedAt());
+    assertThat(jackpot.getContributionType()).isEqualTo(ContributionType.VARIABLE);
+    assertThat(jackpot.getRules()).isEqualTo(rules);
+    assertThat(recovered.findById(FIXED_JACKPOT).orElseThrow().getCurrentPool())
+        .isEqualTo(new BigDecimal("1000.10"));
+  }
+
+  @Test
+  void constructor_shouldResumeFromSnapshot_andReplayOnlyLaterChanges() throws Exception {
+    // Arrange
+    // Only the explicit snapshot is written, a background one could race the restart below
+    JackpotWalRepository repository = open(1000);
+    for (int i = 0; i < 25; i++) {
+      repository.update(FIXED_JACKPOT, jackpot -> jackpot.addContribution(
+          new Contribution(UUID.randomUUID(), BigDecimal.ONE)));
+    }
+    repository.snapshot();
+    repository.update(FIXED_JACKPOT, jackpot -> jackpot.addContribution(
+        new Contribution(UUID.randomUUID(), BigDecimal.ONE)));
+
+    // Act
+    JackpotWalRepository recovered = open(10);
+
+    // Assert
+    assertThat(Files.exists(directory.resolve("jackpots.snapshot"))).isTrue();
+    assertThat(recovered.findById(FIXED_JACKPOT).orElseThrow().getCurrentPool())
+        .isEqualByComparingTo("1026");
+  }
+
+  @Test
+  void update_shouldKeepEveryConcurrentChange_acrossRestart() throws Exception {
+    // Arrange
+    JackpotWalRepository repository = open(500);
+    int threads = 8;
+    int updatesPerThread = 250;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+
+    // Act
+    for (int t = 0; t < threads; t++) {
+      executor.submit(() -> {
+        start.await();
+        for (int i = 0; i < updatesPerThread; i++) {
+          repository.update(FIXED_JACKPOT, jackpot -> jackpot.addContribution(
+              new Contribution(UUID.randomUUID(), BigDecimal.ONE)));
+        }
+        return null;
+      });
+    }
+    start.countDown();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+    repository.close();
+    opened.remove(repository);
+    JackpotWalRepository recovered = open(500);
+
+    // Assert
+    assertThat(recovered.findById(FIXED_JACKPOT).orElseThrow().getCurrentPool())
+        .isEqualByComparingTo(BigDecimal.valueOf(1000 + (long) threads * updatesPerThread));
+  }
+
+  @Test
+  void markProcessed_shouldRecoverBetsWithThePoolChangeThatAppliedThem() {
+    // Arrange
+    JackpotWalRepository repository = open(1000);
+    UUID appliedBet = UUID.randomUUID();
+    UUID snapshottedBet = UUID.randomUUID();
+    repository.update(FIXED_JACKPOT, jackpot -> {
+      jackpot.addContribution(new Contribution(snapshottedBet, BigDecimal.ONE));
+      repository.markProcessed(snapshottedBet);
+    });
+    repository.snapshot();
+    repository.addToPool(FIXED_JACKPOT, BigDecimal.TEN,
+        poolAfter -> repository.markProcessed(appliedBet));
+
+    // Act
+    // No close, as if the process had died
+    JackpotWalRepository recovered = open(1000);
+
+    // Assert
+    assertThat(recovered.findById(FIXED_JACKPOT).orElseThrow().getCurrentPool())
+        .isEqualByComparingTo("1011");
+    assertThat(recovered.isProcessed(snapshottedBet)).isTrue();
+    assertThat(recovered.isProcessed(appliedBet)).isTrue();
+    assertThat(recovered.isProcessed(UUID.randomUUID())).isFalse();
+    assertThat(recovered.markProcessed(appliedBet)).isFalse();
+  }
+
+  @Test
+  void version_shouldNotBeHandedOutAgain_afterARestart() {
+    // Arrange
+    JackpotWalRepository repository = open(1000);
+    for (int i = 0; i < 10; i++) {
+      repository.update(FIXED_JACKPOT, jackpot -> jackpot.setCurrentPool(BigDecimal.TEN));
+    }
+    long beforeRestart = repository.version();
+    repository.close();
+    opened.remove(repository);
+
+    // Act
+    JackpotWalRepository restarted = open(1000);
+
+    // Assert
+    assertThat(restarted.version()).isGreaterThan(beforeRestart);
+  }
+
+  private JackpotWalRepository open(long snapshotInterval) {
+    JackpotWalRepository repository = new JackpotWalRepository(directory,
+        DataSize.ofKilobytes(64), true, snapshotInterval, Duration.ofHours(1), 1000);
+    opened.add(repository);
+    return repository;
+  }
+}
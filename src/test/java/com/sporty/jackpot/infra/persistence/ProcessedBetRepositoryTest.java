@@ -0,0 +1,84 @@
+package com.sporty.jackpot.infra.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ProcessedBetRepositoryTest {
+
+  private final MutableClock clock = new MutableClock();
+  private final ProcessedBetInMemoryRepository processedBetRepository =
+      new ProcessedBetInMemoryRepository(Duration.ofMinutes(10), 3, clock);
+
+  @Test
+  void markProcessed_shouldReturnFalse_whenBetWasAlreadyProcessed() {
+    // Arrange
+    UUID betId = UUID.randomUUID();
+
+    // Act & Assert
+    assertThat(processedBetRepository.markProcessed(betId)).isTrue();
+    assertThat(processedBetRepository.markProcessed(betId)).isFalse();
+    assertThat(processedBetRepository.isProcessed(betId)).isTrue();
+  }
+
+  @Test
+  void markProcessed_shouldForgetBets_afterRetentionHasElapsed() {
+    // Arrange
+    UUID oldBetId = UUID.randomUUID();
+    processedBetRepository.markProcessed(oldBetId);
+
+    // Act
+    clock.advance(Duration.ofMinutes(11));
+    processedBetRepository.markProcessed(UUID.randomUUID());
+
+    // Assert
+    assertThat(processedBetRepository.isProcessed(oldBetId)).isFalse();
+  }
+
+  @Test
+  void markProcessed_shouldEvictOldestBets_whenMaxEntriesIsReached() {
+    // Arrange
+    UUID firstBetId = UUID.randomUUID();
+    processedBetRepository.markProcessed(firstBetId);
+    processedBetRepository.markProcessed(UUID.randomUUID());
+    processedBetRepository.markProcessed(UUID.randomUUID());
+
+    // Act
+    UUID lastBetId = UUID.randomUUID();
+    processedBetRepository.markProcessed(lastBetId);
+
+    // Assert
+    assertThat(processedBetRepository.isProcessed(firstBetId)).isFalse();
+    assertThat(processedBetRepository.isProcessed(lastBetId)).isTrue();
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
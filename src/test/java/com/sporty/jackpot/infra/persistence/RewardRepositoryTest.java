@@ -5,8 +5,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.sporty.jackpot.domain.model.Reward;
 import com.sporty.jackpot.domain.persistence.RewardRepository;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 
 class RewardRepositoryTest {
@@ -38,4 +43,77 @@ class RewardRepositoryTest {
     assertThat(savedReward.getAmount()).isEqualTo(amount);
     assertThat(savedReward.getGrantedAt()).isNotNull();
   }
-}
\ No newline at end of file
+
+  @Test
+  void findByBetId_shouldReturnRewardOfBet() {
+    // Arrange
+    UUID betId = UUID.randomUUID();
+    Reward reward = new Reward(betId, UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("50.00"));
+    rewardRepository.save(reward);
+    rewardRepository.save(
+        new Reward(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), BigDecimal.TEN));
+
+    // Act
+    Optional<Reward> result = rewardRepository.findByBetId(betId);
+
+    // Assert
+    assertThat(result).containsSame(reward);
+    assertThat(rewardRepository.findByBetId(UUID.randomUUID())).isEmpty();
+  }
+
+  @Test
+  void findByUserId_shouldPageNewestFirst() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    List<Reward> rewards = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      Reward reward = new Reward(UUID.randomUUID(), UUID.randomUUID(), userId, BigDecimal.ONE);
+      rewards.add(reward);
+      rewardRepository.save(reward);
+    }
+    rewardRepository.save(
+        new Reward(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), BigDecimal.ONE));
+
+    // Act
+    List<Reward> firstPage = rewardRepository.findByUserId(userId, 0, 2);
+    List<Reward> lastPage = rewardRepository.findByUserId(userId, 2, 2);
+
+    // Assert
+    assertThat(firstPage).containsExactly(rewards.get(4), rewards.get(3));
+    assertThat(lastPage).containsExactly(rewards.get(0));
+    assertThat(rewardRepository.findByUserId(userId, 3, 2)).isEmpty();
+  }
+
+  @Test
+  void findByJackpotId_shouldNotListResavedRewardTwice() {
+    // Arrange
+    UUID jackpotId = UUID.randomUUID();
+    Reward reward = new Reward(UUID.randomUUID(), jackpotId, UUID.randomUUID(), BigDecimal.ONE);
+    rewardRepository.save(reward);
+
+    // Act
+    rewardRepository.save(reward);
+
+    // Assert
+    assertThat(rewardRepository.findByJackpotId(jackpotId, 0, 10)).containsExactly(reward);
+  }
+
+  @Test
+  void save_shouldIndexConcurrentSaves() throws Exception {
+    // Arrange
+    UUID jackpotId = UUID.randomUUID();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    // Act
+    for (int i = 0; i < 1000; i++) {
+      executor.submit(() -> rewardRepository.save(
+          new Reward(UUID.randomUUID(), jackpotId, UUID.randomUUID(), BigDecimal.ONE)));
+    }
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+
+    // Assert
+    assertThat(rewardRepository.findAll()).hasSize(1000);
+    assertThat(rewardRepository.findByJackpotId(jackpotId, 0, 2000)).hasSize(1000);
+  }
+}
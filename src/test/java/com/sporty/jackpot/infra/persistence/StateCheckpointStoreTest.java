@@ -0,0 +1,122 @@
+package com.sporty.jackpot.infra.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sporty.jackpot.domain.model.Bet;
+import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.model.Reward;
+import com.sporty.jackpot.domain.model.RewardType;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StateCheckpointStoreTest {
+
+  @TempDir
+  Path directory;
+
+  private final JackpotInMemoryRepository jackpots = new JackpotInMemoryRepository();
+  private final BetRepositoryInMemory bets = new BetRepositoryInMemory();
+  private final RewardInMemoryRepository rewards = new RewardInMemoryRepository();
+  private final ProcessedBetInMemoryRepository processedBets =
+      new ProcessedBetInMemoryRepository(Duration.ofHours(1), 1000);
+
+  @Test
+  void restore_shouldLoadTheCheckpointedState_andReturnItsOffsets() {
+    // Arrange
+    Jackpot jackpot = new Jackpot("Checkpointed Jackpot", new BigDecimal("1000.00"),
+        ContributionType.VARIABLE, RewardType.FIXED);
+    jackpot.setCurrentPool(new BigDecimal("1234.5678"));
+    jackpots.save(jackpot);
+    Bet bet = new Bet(UUID.randomUUID(), UUID.randomUUID(), jackpot.getJackpotId(),
+        new BigDecimal("25.00"));
+    bets.save(bet);
+    processedBets.markProcessed(bet.getBetId());
+    Bet drawnBet = new Bet(UUID.randomUUID(), UUID.randomUUID(), jackpot.getJackpotId(),
+        new BigDecimal("10.00"));
+    bets.save(drawnBet);
+    bets.markRewardEvaluated(drawnBet.getBetId());
+    Reward reward = new Reward(drawnBet.getBetId(), jackpot.getJackpotId(),
+        drawnBet.getUserId(), new BigDecimal("2000.00"));
+    rewards.save(reward);
+    Map<TopicPartition, Long> offsets = Map.of(new TopicPartition("jackpot-bets", 0), 17L,
+        new TopicPartition("jackpot-bets", 1), 3L);
+    StateCheckpointStore store = new StateCheckpointStore(jackpots, bets, rewards, processedBets,
+        directory);
+    store.write(store.capture(offsets));
+
+    JackpotInMemoryRepository restoredJackpots = new JackpotInMemoryRepository();
+    BetRepositoryInMemory restoredBets = new BetRepositoryInMemory();
+    RewardInMemoryRepository restoredRewards = new RewardInMemoryRepository();
+    ProcessedBetInMemoryRepository restoredProcessedBets =
+        new ProcessedBetInMemoryRepository(Duration.ofHours(1), 1000);
+
+    // Act
+    Optional<Map<TopicPartition, Long>> restoredOffsets = new StateCheckpointStore(
+        restoredJackpots, restoredBets, restoredRewards, restoredProcessedBets, directory)
+        .restore();
+
+    // Assert
+    assertThat(restoredOffsets).contains(offsets);
+    Jackpot restoredJackpot = restoredJackpots.findById(jackpot.getJackpotId()).orElseThrow();
+    assertThat(restoredJackpot.getCurrentPool()).isEqualTo(new BigDecimal("1234.5678"));
+    assertThat(restoredJackpot.getCreatedAt()).isEqualTo(jackpot.getCreatedAt());
+    Bet restoredBet = restoredBets.findById(bet.getBetId()).orElseThrow();
+    assertThat(restoredBet.getBetAmount()).isEqualTo(new BigDecimal("25.00"));
+    assertThat(restoredBet.getCreatedAt()).isEqualTo(bet.getCreatedAt());
+    assertThat(restoredBet.isRewardEvaluated()).isFalse();
+    // A drawn bet's decision is final, only its reward is kept
+    assertThat(restoredBets.findById(drawnBet.getBetId())).isEmpty();
+    Reward restoredReward = restoredRewards.findByBetId(drawnBet.getBetId()).orElseThrow();
+    assertThat(restoredReward.getRewardId()).isEqualTo(reward.getRewardId());
+    assertThat(restoredReward.getAmount()).isEqualTo(new BigDecimal("2000.00"));
+    assertThat(restoredReward.getGrantedAt()).isEqualTo(reward.getGrantedAt());
+    assertThat(restoredProcessedBets.markProcessed(bet.getBetId())).isFalse();
+    List<Instant> processedAt = new ArrayList<>();
+    restoredProcessedBets.forEach((betId, at) -> processedAt.add(at));
+    assertThat(processedAt).hasSize(1);
+  }
+
+  @Test
+  void restore_shouldReplaceTheJackpots_soDeletedSeededJackpotsStayDeleted() {
+    // Arrange
+    UUID deleted = UUID.fromString("38b36029-44ea-4b38-b8cf-db64200dec3d");
+    jackpots.delete(deleted);
+    StateCheckpointStore store = new StateCheckpointStore(jackpots, bets, rewards, processedBets,
+        directory);
+    store.write(store.capture(Map.of()));
+    JackpotInMemoryRepository restoredJackpots = new JackpotInMemoryRepository();
+
+    // Act
+    new StateCheckpointStore(restoredJackpots, new BetRepositoryInMemory(),
+        new RewardInMemoryRepository(), new ProcessedBetInMemoryRepository(Duration.ofHours(1),
+        1000), directory).restore();
+
+    // Assert
+    assertThat(restoredJackpots.findById(deleted)).isEmpty();
+    assertThat(restoredJackpots.findAll()).extracting(Jackpot::getJackpotId)
+        .containsExactlyElementsOf(jackpots.findAll().stream().map(Jackpot::getJackpotId)
+            .toList());
+  }
+
+  @Test
+  void restore_shouldBeEmpty_whenNoCheckpointWasWritten() {
+    // Act
+    Optional<Map<TopicPartition, Long>> restored = new StateCheckpointStore(jackpots, bets,
+        rewards, processedBets, directory).restore();
+
+    // Assert
+    assertThat(restored).isEmpty();
+    assertThat(jackpots.findAll()).hasSize(2);
+  }
+}
@@ -0,0 +1,102 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.sporty.jackpot.domain.model.Bet;
+import java.math.BigDecimal;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@Import({JackpotJpaRepository.class, BetJpaRepository.class, RewardJpaRepository.class,
+    ContributionLedgerJpaRepository.class})
+@TestPropertySource(properties = "jackpot.persistence.mode=jpa")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BetJpaRepositoryTest {
+
+  @Autowired
+  private BetJpaRepository betRepository;
+
+  @Test
+  void save_shouldStoreBet_andUpdateItWhenSavedAgain() {
+    // Arrange
+    Bet bet = bet();
+    betRepository.save(bet);
+
+    // Act
+    bet.setRewardEvaluated(true);
+    betRepository.save(bet);
+    Bet stored = betRepository.findById(bet.getBetId()).orElseThrow();
+
+    // Assert
+    assertThat(stored.getUserId()).isEqualTo(bet.getUserId());
+    assertThat(stored.getJackpotId()).isEqualTo(bet.getJackpotId());
+    assertThat(stored.getBetAmount()).isEqualTo(new BigDecimal("25.50"));
+    // Timestamps are stored with microsecond precision
+    assertThat(stored.getCreatedAt()).isCloseTo(bet.getCreatedAt(), within(1, ChronoUnit.MICROS));
+    assertThat(stored.isRewardEvaluated()).isTrue();
+  }
+
+  @Test
+  void saveAll_shouldInsertNewBets_andUpdateStoredOnes() {
+    // Arrange
+    Bet stored = bet();
+    betRepository.save(stored);
+    stored.setRewardEvaluated(true);
+    List<Bet> bets = List.of(stored, bet(), bet());
+
+    // Act
+    betRepository.saveAll(bets);
+
+    // Assert
+    assertThat(bets).allSatisfy(bet -> assertThat(betRepository.findById(bet.getBetId()))
+        .hasValueSatisfying(found -> assertThat(found.getBetAmount())
+            .isEqualByComparingTo("25.50")));
+    assertThat(betRepository.findById(stored.getBetId()).orElseThrow().isRewardEvaluated())
+        .isTrue();
+  }
+
+  @Test
+  void markRewardEvaluated_shouldFlagTheBetOnlyOnce() {
+    // Arrange
+    Bet bet = bet();
+    betRepository.save(bet);
+
+    // Act
+    boolean first = betRepository.markRewardEvaluated(bet.getBetId());
+    boolean second = betRepository.markRewardEvaluated(bet.getBetId());
+
+    // Assert
+    assertThat(first).isTrue();
+    assertThat(second).isFalse();
+    assertThat(betRepository.findById(bet.getBetId()).orElseThrow().isRewardEvaluated()).isTrue();
+    assertThat(betRepository.markRewardEvaluated(UUID.randomUUID())).isFalse();
+  }
+
+  @Test
+  void delete_shouldRemoveBet() {
+    // Arrange
+    Bet bet = bet();
+    betRepository.save(bet);
+
+    // Act
+    betRepository.delete(bet.getBetId());
+
+    // Assert
+    assertThat(betRepository.findById(bet.getBetId())).isEmpty();
+  }
+
+  private Bet bet() {
+    return new Bet(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+        new BigDecimal("25.50"));
+  }
+}
@@ -0,0 +1,107 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sporty.jackpot.domain.model.Contribution;
+import com.sporty.jackpot.domain.model.PoolSnapshot;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@Import({JackpotJpaRepository.class, BetJpaRepository.class, RewardJpaRepository.class,
+    ContributionLedgerJpaRepository.class})
+@TestPropertySource(properties = "jackpot.persistence.mode=jpa")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ContributionLedgerJpaRepositoryTest {
+
+  @Autowired
+  private ContributionLedgerJpaRepository ledgerRepository;
+
+  @Test
+  void append_shouldKeepContributionsInOrder_andSnapshotEveryInterval() {
+    // Arrange
+    UUID jackpotId = UUID.randomUUID();
+    BigDecimal pool = BigDecimal.ZERO;
+
+    // Act
+    for (int i = 1; i <= 1500; i++) {
+      pool = pool.add(BigDecimal.ONE);
+      ledgerRepository.append(jackpotId, new Contribution(UUID.randomUUID(),
+          BigDecimal.valueOf(i)), pool);
+    }
+    List<Contribution> secondPage = ledgerRepository.findByJackpotId(jackpotId, 1, 10);
+
+    // Assert
+    assertThat(ledgerRepository.count(jackpotId)).isEqualTo(1500);
+    assertThat(secondPage).extracting(Contribution::getContributionAmount)
+        .containsExactly(ids(11, 20));
+    PoolSnapshot snapshot = ledgerRepository.findLatestSnapshot(jackpotId).orElseThrow();
+    assertThat(snapshot.getSequence()).isEqualTo(1000);
+    assertThat(snapshot.getPool()).isEqualByComparingTo("1000");
+  }
+
+  @Test
+  void compact_shouldDropContributionsCoveredByTheLatestSnapshot() {
+    // Arrange
+    UUID jackpotId = UUID.randomUUID();
+    for (int i = 1; i <= 1200; i++) {
+      ledgerRepository.append(jackpotId, new Contribution(UUID.randomUUID(),
+          BigDecimal.valueOf(i)), BigDecimal.valueOf(i));
+    }
+
+    // Act
+    int dropped = ledgerRepository.compact(jackpotId);
+
+    // Assert
+    assertThat(dropped).isEqualTo(1000);
+    assertThat(ledgerRepository.count(jackpotId)).isEqualTo(200);
+    assertThat(ledgerRepository.findByJackpotId(jackpotId, 0, 1))
+        .extracting(Contribution::getContributionAmount)
+        .containsExactly(BigDecimal.valueOf(1001));
+    assertThat(ledgerRepository.compact(jackpotId)).isZero();
+  }
+
+  @Test
+  void remove_shouldDropTheWholeLedgerOfTheJackpot() {
+    // Arrange
+    UUID jackpotId = UUID.randomUUID();
+    UUID otherJackpotId = UUID.randomUUID();
+    for (int i = 1; i <= 10; i++) {
+      ledgerRepository.append(jackpotId, new Contribution(UUID.randomUUID(),
+          BigDecimal.valueOf(i)), BigDecimal.valueOf(i));
+    }
+    ledgerRepository.append(otherJackpotId, new Contribution(UUID.randomUUID(), BigDecimal.ONE),
+        BigDecimal.ONE);
+
+    // Act
+    ledgerRepository.remove(jackpotId);
+
+    // Assert
+    assertThat(ledgerRepository.count(jackpotId)).isZero();
+    assertThat(ledgerRepository.findByJackpotId(jackpotId, 0, 10)).isEmpty();
+    assertThat(ledgerRepository.count(otherJackpotId)).isEqualTo(1);
+  }
+
+  @Test
+  void findLatestSnapshot_shouldBeEmpty_forAnUnknownJackpot() {
+    // Act & Assert
+    assertThat(ledgerRepository.findLatestSnapshot(UUID.randomUUID())).isEmpty();
+    assertThat(ledgerRepository.count(UUID.randomUUID())).isZero();
+  }
+
+  private static BigDecimal[] ids(int from, int to) {
+    BigDecimal[] values = new BigDecimal[to - from + 1];
+    for (int i = from; i <= to; i++) {
+      values[i - from] = BigDecimal.valueOf(i);
+    }
+    return values;
+  }
+}
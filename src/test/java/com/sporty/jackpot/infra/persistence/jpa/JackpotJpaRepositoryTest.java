@@ -0,0 +1,293 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sporty.jackpot.domain.model.Contribution;
+import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.model.JackpotRules;
+import com.sporty.jackpot.domain.model.Reward;
+import com.sporty.jackpot.domain.model.RewardType;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@Import({JackpotJpaRepository.class, BetJpaRepository.class, RewardJpaRepository.class,
+    ContributionLedgerJpaRepository.class})
+@TestPropertySource(properties = "jackpot.persistence.mode=jpa")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JackpotJpaRepositoryTest {
+
+  @Autowired
+  private JackpotJpaRepository jackpotRepository;
+
+  @Autowired
+  private RewardJpaRepository rewardRepository;
+
+  @Autowired
+  private ContributionLedgerJpaRepository contributionLedgerRepository;
+
+  @Autowired
+  private JackpotEntityRepository entities;
+
+  @Autowired
+  private JackpotChangeCounterEntityRepository changeCounters;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Test
+  void constructor_shouldSeedDefaultJackpots_intoAnEmptyDatabase() {
+    // Act
+    List<String> names = jackpotRepository.findAll().stream().map(Jackpot::getName).toList();
+
+    // Assert
+    assertThat(names).contains("Super Fixed Jackpot", "Super Variable Jackpot");
+  }
+
+  @Test
+  void save_shouldStoreJackpot_andReadItBackWithTheSameValues() {
+    // Arrange
+    JackpotRules rules = new JackpotRules(new BigDecimal("0.15"), null, null, null, null, null,
+        null, new BigDecimal("5")).withDefaults();
+    Jackpot jackpot = new Jackpot("Stored Jackpot", new BigDecimal("500.00"),
+        ContributionType.VARIABLE, RewardType.VARIABLE, rules);
+    jackpot.setCurrentPool(new BigDecimal("612.3456"));
+
+    // Act
+    jackpotRepository.save(jackpot);
+    Jackpot stored = jackpotRepository.findById(jackpot.getJackpotId()).orElseThrow();
+
+    // Assert
+    assertThat(stored.getName()).isEqualTo("Stored Jackpot");
+    assertThat(stored.getInitialPool()).isEqualTo(new BigDecimal("500.00"));
+    assertThat(stored.getCurrentPool()).isEqualTo(new BigDecimal("612.3456"));
+    assertThat(stored.getRewardType()).isEqualTo(RewardType.VARIABLE);
+    assertThat(stored.getRules().fixedContributionRate()).isEqualByComparingTo("0.15");
+    assertThat(stored.getRules().poolLimitMultiplier()).isEqualByComparingTo("5");
+  }
+
+  @Test
+  void update_shouldApplyChange_andRaiseTheVersion() {
+    // Arrange
+    Jackpot jackpot = saveJackpot();
+    long before = jackpotRepository.version();
+
+    // Act
+    Optional<Jackpot> updated = jackpotRepository.update(jackpot.getJackpotId(),
+        j -> j.addContribution(new Contribution(UUID.randomUUID(), new BigDecimal("12.5"))));
+
+    // Assert
+    assertThat(updated).isPresent();
+    assertThat(jackpotRepository.findById(jackpot.getJackpotId()).orElseThrow().getCurrentPool())
+        .isEqualByComparingTo("112.5");
+    assertThat(jackpotRepository.version()).isNotEqualTo(before);
+    assertThat(jackpotRepository.update(UUID.randomUUID(), j -> { })).isEmpty();
+  }
+
+  @Test
+  void update_shouldFailAndRollBackItsWrites_whenAnotherInstanceUpdatedTheJackpot() {
+    // Arrange
+    Jackpot jackpot = saveJackpot();
+    TransactionTemplate otherInstance = new TransactionTemplate(transactionManager);
+    otherInstance.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    Reward reward = new Reward(UUID.randomUUID(), jackpot.getJackpotId(), UUID.randomUUID(),
+        new BigDecimal("100.00"));
+
+    // Act & Assert
+    assertThatThrownBy(() -> jackpotRepository.update(jackpot.getJackpotId(), j -> {
+      otherInstance.executeWithoutResult(status -> entities.findById(jackpot.getJackpotId())
+          .orElseThrow().setCurrentPool(new BigDecimal("200")));
+      rewardRepository.save(reward);
+      j.claimPool();
+    })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    assertThat(jackpotRepository.findById(jackpot.getJackpotId()).orElseThrow().getCurrentPool())
+        .isEqualByComparingTo("200");
+    assertThat(rewardRepository.findById(reward.getRewardId())).isEmpty();
+  }
+
+  @Test
+  void update_shouldNotLoseConcurrentIncrements() throws InterruptedException {
+    // Arrange
+    Jackpot jackpot = saveJackpot();
+    int threads = 4;
+    int incrementsPerThread = 50;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+
+    // Act
+    for (int t = 0; t < threads; t++) {
+      executor.submit(() -> {
+        start.await();
+        for (int i = 0; i < incrementsPerThread; i++) {
+          jackpotRepository.update(jackpot.getJackpotId(),
+              j -> j.setCurrentPool(j.getCurrentPool().add(BigDecimal.ONE)));
+        }
+        return null;
+      });
+    }
+    start.countDown();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+    // Assert
+    assertThat(jackpotRepository.findById(jackpot.getJackpotId()).orElseThrow().getCurrentPool())
+        .isEqualByComparingTo(BigDecimal.valueOf(100 + threads * incrementsPerThread));
+  }
+
+  @Test
+  void addToPool_shouldRaisePoolAndVersion_andCommitTheRecorderWritesWithIt() {
+    // Arrange
+    Jackpot jackpot = saveJackpot();
+    long before = jackpotRepository.version();
+    Contribution contribution = new Contribution(UUID.randomUUID(), new BigDecimal("12.5"));
+
+    // Act
+    Optional<BigDecimal> poolAfter = jackpotRepository.addToPool(jackpot.getJackpotId(),
+        new BigDecimal("12.5"), pool -> contributionLedgerRepository.append(
+            jackpot.getJackpotId(), contribution, pool));
+
+    // Assert
+    assertThat(poolAfter).hasValueSatisfying(pool -> assertThat(pool).isEqualTo("112.50"));
+    assertThat(jackpotRepository.findById(jackpot.getJackpotId()).orElseThrow().getCurrentPool())
+        .isEqualByComparingTo("112.5");
+    assertThat(contributionLedgerRepository.count(jackpot.getJackpotId())).isEqualTo(1);
+    assertThat(jackpotRepository.version()).isNotEqualTo(before);
+    assertThat(jackpotRepository.addToPool(UUID.randomUUID(), BigDecimal.ONE, pool -> { }))
+        .isEmpty();
+  }
+
+  @Test
+  void addToPool_shouldLeavePoolAndLedgerUnchanged_whenTheRecorderFails() {
+    // Arrange
+    Jackpot jackpot = saveJackpot();
+    Contribution contribution = new Contribution(UUID.randomUUID(), new BigDecimal("12.5"));
+
+    // Act & Assert
+    assertThatThrownBy(() -> jackpotRepository.addToPool(jackpot.getJackpotId(),
+        new BigDecimal("12.5"), pool -> {
+          contributionLedgerRepository.append(jackpot.getJackpotId(), contribution, pool);
+          throw new IllegalStateException("Recorder failed");
+        })).isInstanceOf(IllegalStateException.class);
+    assertThat(jackpotRepository.findById(jackpot.getJackpotId()).orElseThrow().getCurrentPool())
+        .isEqualByComparingTo("100");
+    assertThat(contributionLedgerRepository.count(jackpot.getJackpotId())).isZero();
+  }
+
+  @Test
+  void addToPool_shouldNotLoseIncrements_whenInterleavedWithClaims() throws InterruptedException {
+    // Arrange
+    Jackpot jackpot = saveJackpot();
+    int threads = 4;
+    int incrementsPerThread = 50;
+    ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+    CountDownLatch start = new CountDownLatch(1);
+    List<BigDecimal> claims = new CopyOnWriteArrayList<>();
+
+    // Act
+    for (int t = 0; t < threads; t++) {
+      executor.submit(() -> {
+        start.await();
+        for (int i = 0; i < incrementsPerThread; i++) {
+          jackpotRepository.addToPool(jackpot.getJackpotId(), BigDecimal.ONE, pool -> { });
+        }
+        return null;
+      });
+    }
+    executor.submit(() -> {
+      start.await();
+      for (int i = 0; i < 10; i++) {
+        jackpotRepository.update(jackpot.getJackpotId(), j -> claims.add(j.claimPool()));
+      }
+      return null;
+    });
+    start.countDown();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+    // Assert
+    // Every claim pays the initial pool plus the increments since the previous claim
+    BigDecimal paid = claims.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    BigDecimal left = jackpotRepository.findById(jackpot.getJackpotId()).orElseThrow()
+        .getCurrentPool();
+    assertThat(claims).hasSize(10);
+    assertThat(paid.add(left)).isEqualByComparingTo(
+        BigDecimal.valueOf(100 * 11 + threads * incrementsPerThread));
+  }
+
+  @Test
+  void findAllAfter_shouldListEveryJackpotOnce_acrossChunks() {
+    // Arrange
+    for (int i = 0; i < 150; i++) {
+      saveJackpot();
+    }
+    List<UUID> all = jackpotRepository.findAllAfter(null).map(Jackpot::getJackpotId).toList();
+
+    // Act
+    List<UUID> afterTenth = jackpotRepository.findAllAfter(all.get(9))
+        .map(Jackpot::getJackpotId)
+        .toList();
+
+    // Assert
+    assertThat(all).hasSize(entities.findAll().size()).doesNotHaveDuplicates();
+    assertThat(afterTenth).containsExactlyElementsOf(all.subList(10, all.size()));
+  }
+
+  @Test
+  void delete_shouldRemoveJackpot_andChangeTheVersion() {
+    // Arrange
+    Jackpot jackpot = saveJackpot();
+    long before = jackpotRepository.version();
+
+    // Act
+    jackpotRepository.delete(jackpot.getJackpotId());
+
+    // Assert
+    assertThat(jackpotRepository.findById(jackpot.getJackpotId())).isEmpty();
+    assertThat(jackpotRepository.version()).isNotEqualTo(before);
+  }
+
+  @Test
+  void version_shouldNotGoBack_afterADeleteAndARestart() {
+    // Arrange
+    Jackpot jackpot = saveJackpot();
+    jackpotRepository.delete(jackpot.getJackpotId());
+    long beforeRestart = jackpotRepository.version();
+
+    // Act
+    JackpotJpaRepository restarted = new JackpotJpaRepository(entities, changeCounters,
+        transactionManager);
+    restarted.save(new Jackpot("Jackpot", new BigDecimal("100.00"), ContributionType.FIXED,
+        RewardType.FIXED));
+
+    // Assert
+    assertThat(restarted.version()).isGreaterThan(beforeRestart);
+    assertThat(jackpotRepository.version()).isEqualTo(restarted.version());
+  }
+
+  private Jackpot saveJackpot() {
+    Jackpot jackpot = new Jackpot("Jackpot", new BigDecimal("100.00"), ContributionType.FIXED,
+        RewardType.FIXED);
+    jackpotRepository.save(jackpot);
+    return jackpot;
+  }
+}
@@ -0,0 +1,137 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sporty.jackpot.domain.model.ContributionType;
+import com.sporty.jackpot.domain.model.Jackpot;
+import com.sporty.jackpot.domain.model.RewardType;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@Import({JackpotJpaRepository.class, ProcessedBetJpaRepository.class})
+@TestPropertySource(properties = "jackpot.persistence.mode=jpa")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProcessedBetJpaRepositoryTest {
+
+  @Autowired
+  private ProcessedBetJpaRepository processedBetRepository;
+
+  @Autowired
+  private JackpotJpaRepository jackpotRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private ProcessedBetEntityRepository entities;
+
+  @Test
+  void markProcessed_shouldRecordBetOnlyOnce() {
+    // Arrange
+    UUID betId = UUID.randomUUID();
+
+    // Act & Assert
+    assertThat(processedBetRepository.markProcessed(betId)).isTrue();
+    assertThatThrownBy(() -> processedBetRepository.markProcessed(betId))
+        .isInstanceOf(DataIntegrityViolationException.class);
+    assertThat(processedBetRepository.isProcessed(betId)).isTrue();
+    assertThat(processedBetRepository.isProcessed(UUID.randomUUID())).isFalse();
+  }
+
+  @Test
+  void findProcessed_shouldReturnTheProcessedBetsOfTheBatch() {
+    // Arrange
+    UUID processedBetId = UUID.randomUUID();
+    UUID newBetId = UUID.randomUUID();
+    processedBetRepository.markProcessed(processedBetId);
+
+    // Act
+    Set<UUID> processed = processedBetRepository.findProcessed(
+        List.of(processedBetId, newBetId));
+
+    // Assert
+    assertThat(processed).containsExactly(processedBetId);
+  }
+
+  @Test
+  void evictExpired_shouldDeleteBetsProcessedBeforeTheRetention() {
+    // Arrange
+    Instant now = Instant.now();
+    UUID oldBetId = UUID.randomUUID();
+    UUID recentBetId = UUID.randomUUID();
+    repositoryAt(now.minus(Duration.ofHours(2))).markProcessed(oldBetId);
+    repositoryAt(now).markProcessed(recentBetId);
+
+    // Act
+    int evicted = repositoryAt(now).evictExpired();
+
+    // Assert
+    assertThat(evicted).isEqualTo(1);
+    assertThat(processedBetRepository.isProcessed(oldBetId)).isFalse();
+    assertThat(processedBetRepository.isProcessed(recentBetId)).isTrue();
+  }
+
+  @Test
+  void markProcessed_shouldBeRolledBack_withTheJackpotUpdateItRanIn() {
+    // Arrange
+    Jackpot jackpot = saveJackpot();
+    UUID betId = UUID.randomUUID();
+
+    // Act
+    assertThatThrownBy(() -> jackpotRepository.update(jackpot.getJackpotId(), j -> {
+      processedBetRepository.markProcessed(betId);
+      throw new IllegalStateException("Store unavailable");
+    })).isInstanceOf(IllegalStateException.class);
+
+    // Assert
+    assertThat(processedBetRepository.isProcessed(betId)).isFalse();
+  }
+
+  @Test
+  void markProcessed_shouldFailTheLaterCommit_whenAnotherInstanceProcessedTheBetMeanwhile() {
+    // Arrange
+    Jackpot jackpot = saveJackpot();
+    UUID betId = UUID.randomUUID();
+    TransactionTemplate otherInstance = new TransactionTemplate(transactionManager);
+    otherInstance.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+    // Act & Assert
+    assertThatThrownBy(() -> jackpotRepository.update(jackpot.getJackpotId(), j -> {
+      processedBetRepository.markProcessed(betId);
+      otherInstance.executeWithoutResult(
+          status -> processedBetRepository.markProcessed(betId));
+    })).isInstanceOf(DataIntegrityViolationException.class);
+    assertThat(processedBetRepository.isProcessed(betId)).isTrue();
+  }
+
+  private ProcessedBetJpaRepository repositoryAt(Instant instant) {
+    return new ProcessedBetJpaRepository(entities, Duration.ofHours(1),
+        Clock.fixed(instant, ZoneOffset.UTC));
+  }
+
+  private Jackpot saveJackpot() {
+    Jackpot jackpot = new Jackpot("Jackpot", new BigDecimal("100.00"), ContributionType.FIXED,
+        RewardType.FIXED);
+    jackpotRepository.save(jackpot);
+    return jackpot;
+  }
+}
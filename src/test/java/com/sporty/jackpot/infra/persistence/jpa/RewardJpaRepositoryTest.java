@@ -0,0 +1,66 @@
+package com.sporty.jackpot.infra.persistence.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.sporty.jackpot.domain.model.Reward;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@Import({JackpotJpaRepository.class, BetJpaRepository.class, RewardJpaRepository.class,
+    ContributionLedgerJpaRepository.class})
+@TestPropertySource(properties = "jackpot.persistence.mode=jpa")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RewardJpaRepositoryTest {
+
+  @Autowired
+  private RewardJpaRepository rewardRepository;
+
+  @Test
+  void save_shouldStoreReward_andFindItByBetId() {
+    // Arrange
+    Reward reward = new Reward(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+        new BigDecimal("1500.25"));
+
+    // Act
+    rewardRepository.save(reward);
+
+    // Assert
+    Reward stored = rewardRepository.findByBetId(reward.getBetId()).orElseThrow();
+    assertThat(stored.getRewardId()).isEqualTo(reward.getRewardId());
+    assertThat(stored.getAmount()).isEqualTo(new BigDecimal("1500.25"));
+    assertThat(stored.getGrantedAt()).isCloseTo(reward.getGrantedAt(),
+        within(1, ChronoUnit.MICROS));
+    assertThat(rewardRepository.findById(reward.getRewardId())).isPresent();
+  }
+
+  @Test
+  void findByUserId_shouldPageNewestFirst() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    LocalDateTime now = LocalDateTime.now();
+    for (int i = 0; i < 5; i++) {
+      Reward reward = new Reward(UUID.randomUUID(), UUID.randomUUID(), userId,
+          BigDecimal.valueOf(i));
+      reward.setGrantedAt(now.plusSeconds(i));
+      rewardRepository.save(reward);
+    }
+
+    // Act & Assert
+    assertThat(rewardRepository.findByUserId(userId, 0, 2)).extracting(Reward::getAmount)
+        .containsExactly(new BigDecimal("4.00"), new BigDecimal("3.00"));
+    assertThat(rewardRepository.findByUserId(userId, 2, 2)).extracting(Reward::getAmount)
+        .containsExactly(new BigDecimal("0.00"));
+    assertThat(rewardRepository.findByUserId(userId, -1, 2)).isEmpty();
+  }
+}
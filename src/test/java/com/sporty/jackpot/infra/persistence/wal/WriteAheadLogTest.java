@@ -0,0 +1,108 @@
+package com.sporty.jackpot.infra.persistence.wal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WriteAheadLogTest {
+
+  private static final int SEGMENT_SIZE = 256;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void recover_shouldReplayRecordsAcrossSegments() {
+    // Arrange
+    WriteAheadLog log = open(WalPosition.START, new ArrayList<>());
+    for (int i = 0; i < 20; i++) {
+      log.sync(log.append(record(i)));
+    }
+    log.close();
+
+    // Act
+    List<String> replayed = new ArrayList<>();
+    WriteAheadLog reopened = open(WalPosition.START, replayed);
+
+    // Assert
+    assertThat(segments()).hasSizeGreaterThan(1);
+    assertThat(replayed).hasSize(20).startsWith("record-0").endsWith("record-19");
+    assertThat(reopened.position().segment()).isEqualTo(segments().size() - 1);
+  }
+
+  @Test
+  void recover_shouldStartAtPosition_andDeleteEarlierSegments() {
+    // Arrange
+    WriteAheadLog log = open(WalPosition.START, new ArrayList<>());
+    for (int i = 0; i < 20; i++) {
+      log.append(record(i));
+    }
+    WalPosition position = log.position();
+    log.append(record(20));
+    log.close();
+
+    // Act
+    List<String> replayed = new ArrayList<>();
+    open(position, replayed);
+
+    // Assert
+    assertThat(replayed).containsExactly("record-20");
+    assertThat(segments()).hasSize(1);
+  }
+
+  @Test
+  void recover_shouldDropTornRecordAtTheEnd_andAppendAfterLastIntactRecord() throws IOException {
+    // Arrange
+    WriteAheadLog log = open(WalPosition.START, new ArrayList<>());
+    log.append(record(0));
+    WalPosition tornAt = log.position();
+    log.append(record(1));
+    log.close();
+    // A crash in the middle of the second record: its payload is cut short
+    try (RandomAccessFile file = new RandomAccessFile(segments().get(0).toFile(), "rw")) {
+      file.seek(tornAt.offset() + 10);
+      file.write(new byte[] {0, 0, 0});
+    }
+
+    // Act
+    List<String> replayed = new ArrayList<>();
+    WriteAheadLog reopened = open(WalPosition.START, replayed);
+    WalPosition appendAt = reopened.position();
+    reopened.append(record(2));
+    reopened.close();
+    List<String> afterAppend = new ArrayList<>();
+    open(WalPosition.START, afterAppend);
+
+    // Assert
+    assertThat(replayed).containsExactly("record-0");
+    assertThat(appendAt).isEqualTo(tornAt);
+    assertThat(afterAppend).containsExactly("record-0", "record-2");
+  }
+
+  private WriteAheadLog open(WalPosition from, List<String> replayed) {
+    WriteAheadLog log = new WriteAheadLog(directory, SEGMENT_SIZE, true);
+    log.recover(from, payload -> replayed.add(new String(payload, StandardCharsets.UTF_8)));
+    return log;
+  }
+
+  private byte[] record(int i) {
+    return ("record-" + i).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private List<Path> segments() {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.sorted().toList();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}